@@ -0,0 +1,117 @@
+// k6 load test for the two blocking I/O endpoints: apply (multipart upload)
+// and file download. Used to compare platform vs virtual thread request handling.
+//
+//   k6 run -e SCENARIO=apply loadtest/apply-download.js
+//   k6 run -e SCENARIO=download -e VUS=1000 -e DURATION=2m loadtest/apply-download.js
+//
+// Options (env): BASE_URL (default http://localhost:8080), SCENARIO (apply|download),
+// VUS (default 1000), JOBS (apply iterations per VU, default 20), DURATION (download, default 1m),
+// FILE_KB (uploaded resume size, default 256).
+import http from 'k6/http';
+import { check, fail } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SCENARIO = __ENV.SCENARIO || 'apply';
+const VUS = parseInt(__ENV.VUS || '1000', 10);
+const JOBS = parseInt(__ENV.JOBS || '20', 10);
+const DURATION = __ENV.DURATION || '1m';
+const FILE_KB = parseInt(__ENV.FILE_KB || '256', 10);
+const PASSWORD = 'loadtest123';
+
+const scenarios = {
+    // Every VU applies once to each job, so no request hits the duplicate check
+    apply: {
+        executor: 'per-vu-iterations',
+        exec: 'apply',
+        vus: VUS,
+        iterations: JOBS,
+        maxDuration: '10m',
+    },
+    download: {
+        executor: 'constant-vus',
+        exec: 'download',
+        vus: VUS,
+        duration: DURATION,
+    },
+};
+
+export const options = {
+    setupTimeout: '5m',
+    scenarios: { [SCENARIO]: scenarios[SCENARIO] },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+const pdf = '%PDF-1.4\n' + 'x'.repeat(FILE_KB * 1024) + '\n%%EOF\n';
+const json = { headers: { 'Content-Type': 'application/json' } };
+
+function signup(username, roles) {
+    const body = { username, email: `${username}@loadtest.local`, password: PASSWORD };
+    if (roles) {
+        body.role = roles;
+    }
+    http.post(`${BASE_URL}/api/auth/signup`, JSON.stringify(body), json);
+    const res = http.post(`${BASE_URL}/api/auth/signin`, JSON.stringify({ username, password: PASSWORD }), json);
+    if (res.status !== 200) {
+        fail(`signin failed for ${username}: ${res.status}`);
+    }
+    return res.json('token');
+}
+
+function auth(token) {
+    return { headers: { Authorization: `Bearer ${token}` } };
+}
+
+function submit(token, jobId) {
+    return http.post(`${BASE_URL}/api/applications/apply`, {
+        jobId: String(jobId),
+        coverLetterText: 'Load test application',
+        resumePdf: http.file(pdf, 'resume.pdf', 'application/pdf'),
+    }, auth(token));
+}
+
+export function setup() {
+    const run = Date.now().toString(36);
+    const employer = signup(`lte${run}`, ['employer']);
+
+    const jobIds = [];
+    for (let i = 0; i < JOBS; i++) {
+        const res = http.post(`${BASE_URL}/api/jobs`, JSON.stringify({
+            title: `Load test job ${i}`,
+            company: 'Load Test Inc',
+            location: 'Manila',
+            jobType: 'Full-time',
+            description: 'Created by loadtest/apply-download.js',
+        }), { headers: { ...json.headers, ...auth(employer).headers } });
+        if (res.status !== 200) {
+            fail(`job creation failed: ${res.status}`);
+        }
+        jobIds.push(res.json('id'));
+    }
+
+    // One application with an uploaded resume for the download scenario
+    const seeker = signup(`lts${run}`);
+    const application = submit(seeker, jobIds[0]);
+    if (application.status !== 200) {
+        fail(`setup application failed: ${application.status}`);
+    }
+
+    return { run, jobIds, seeker, applicationId: application.json('id') };
+}
+
+let token;
+
+export function apply(data) {
+    if (!token) {
+        token = signup(`lt${data.run}${__VU}`);
+    }
+    const res = submit(token, data.jobIds[__ITER % data.jobIds.length]);
+    check(res, { 'applied': (r) => r.status === 200 });
+}
+
+export function download(data) {
+    const res = http.get(`${BASE_URL}/api/applications/download/${data.applicationId}/resume`,
+            auth(data.seeker));
+    check(res, { 'downloaded': (r) => r.status === 200 });
+}
@@ -0,0 +1,84 @@
+package com.trabahanap.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.trabahanap.model.Job;
+import com.trabahanap.model.JobApplication;
+import com.trabahanap.model.JobApplication.ApplicationStatus;
+import com.trabahanap.model.User;
+
+/**
+ * Detached entity fixtures shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    // Fits the 255-character jobs.description column
+    private static final String DESCRIPTION = "We are looking for an experienced engineer to build and maintain "
+            + "our hiring platform. You will work across the stack with Java, Spring Boot, PostgreSQL and React "
+            + "and own features end to end.";
+
+    private static final String REQUIREMENTS = "3+ years of Java experience; Spring Boot; SQL; REST APIs; Git";
+
+    private BenchmarkData() {
+        // Prevent instantiation
+    }
+
+    static User employer(long id) {
+        User user = new User("employer" + id, "employer" + id + "@example.com", "password");
+        user.setId(id);
+        user.setFirstName("Employer");
+        user.setLastName(String.valueOf(id));
+        return user;
+    }
+
+    static User seeker(long id) {
+        User user = new User("seeker" + id, "seeker" + id + "@example.com", "password");
+        user.setId(id);
+        return user;
+    }
+
+    static Job job(long id, User postedBy) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle("Software Engineer " + id);
+        job.setCompany("Company " + (id % 50));
+        job.setLocation(id % 2 == 0 ? "Manila" : "Cebu City");
+        job.setJobType(id % 3 == 0 ? "PART_TIME" : "FULL_TIME");
+        job.setDescription(DESCRIPTION);
+        job.setRequirements(REQUIREMENTS);
+        job.setSalary(30000.0 + id);
+        job.setPostedBy(postedBy);
+        job.setCreatedAt(LocalDateTime.now().minusMinutes(id));
+        return job;
+    }
+
+    static List<Job> jobs(int count) {
+        User employer = employer(1);
+        List<Job> jobs = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            jobs.add(job(i, employer));
+        }
+        return jobs;
+    }
+
+    static List<JobApplication> applications(List<Job> jobs) {
+        User seeker = seeker(2);
+        List<JobApplication> applications = new ArrayList<>(jobs.size());
+        long id = 1;
+        for (Job job : jobs) {
+            JobApplication application = new JobApplication();
+            application.setId(id++);
+            application.setJob(job);
+            application.setApplicant(seeker);
+            application.setStatus(ApplicationStatus.PENDING);
+            application.setCoverLetterText("I would like to apply for " + job.getTitle());
+            application.setResumePath("blobs/ab/abcdef");
+            application.setAppliedAt(LocalDateTime.now());
+            application.setUpdatedAt(LocalDateTime.now());
+            applications.add(application);
+        }
+        return applications;
+    }
+}
@@ -0,0 +1,147 @@
+package com.trabahanap.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.trabahanap.TrabahanapApplication;
+import com.trabahanap.service.FileStorageService;
+import com.trabahanap.service.StagedFile;
+
+/**
+ * Local upload path: hashing the upload, reserving its blob row in the
+ * embedded H2 database and writing it to its blob key. unique=true writes new
+ * content every call; unique=false measures the deduplicated path where
+ * identical content is already stored.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FileStorageBenchmark {
+
+    @Param({ "65536", "1048576" })
+    int fileSize;
+
+    @Param({ "true", "false" })
+    boolean unique;
+
+    Path uploadDir;
+    ConfigurableApplicationContext context;
+    FileStorageService fileStorageService;
+    byte[] content;
+    long counter;
+
+    @Setup
+    public void setUp() throws IOException {
+        uploadDir = Files.createTempDirectory("trabahanap-bench-uploads");
+        SpringApplication application = new SpringApplication(TrabahanapApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:file-benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--app.upload-dir=" + uploadDir,
+                "--logging.level.root=WARN");
+        fileStorageService = context.getBean(FileStorageService.class);
+        content = new byte[fileSize];
+        new Random(42).nextBytes(content);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        try (Stream<Path> paths = Files.walk(uploadDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void nextContent() {
+        if (unique) {
+            ByteBuffer.wrap(content).putLong(0, ++counter);
+        }
+    }
+
+    @Benchmark
+    public StagedFile stageFile() throws IOException {
+        StagedFile staged = fileStorageService.stageFile(new BytesMultipartFile(content));
+        if (unique) {
+            // Drops the reservation and, as nothing references it, the content
+            fileStorageService.discardStagedFile(staged);
+        }
+        return staged;
+    }
+
+    /**
+     * In-memory upload, standing in for the servlet container's multipart file.
+     */
+    static final class BytesMultipartFile implements MultipartFile {
+        private final byte[] bytes;
+
+        BytesMultipartFile(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public String getName() {
+            return "resumePdf";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "resume.pdf";
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/pdf";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return bytes.length == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return bytes.length;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.write(dest.toPath(), bytes);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.trabahanap.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.util.ReflectionUtils;
+
+import com.trabahanap.config.JwtUtil;
+import com.trabahanap.security.UserPrincipal;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Token issue and per-request validation cost.
+ * rebuild-per-call is the JwtUtil this replaced: the key and parser are built
+ * for every call and a request parses the token three times. no-cache is the
+ * current JwtUtil with the verified-token cache off (one parse with the shared
+ * key and parser); cache measures the verified-token cache hit path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "trabahanap_dev_secret_key_min_256_bits_12345678901234567890";
+    private static final int EXPIRATION_MS = 86_400_000;
+
+    @Param({ "rebuild-per-call", "no-cache", "cache" })
+    String variant;
+
+    Tokens tokens;
+    UserPrincipal principal;
+    String token;
+
+    @Setup
+    public void setUp() {
+        tokens = switch (variant) {
+            case "rebuild-per-call" -> new RebuildPerCall();
+            case "no-cache" -> current(0);
+            case "cache" -> current(10_000);
+            default -> throw new IllegalArgumentException(variant);
+        };
+
+        principal = new UserPrincipal(1L, "seeker1", "seeker1@example.com", "password", "Seeker", "One",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = tokens.generate(principal);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokens.generate(principal);
+    }
+
+    /**
+     * What JwtAuthenticationFilter does with the token on every request.
+     */
+    @Benchmark
+    public boolean authenticateRequest() {
+        return tokens.authenticate(token, principal);
+    }
+
+    private interface Tokens {
+        String generate(UserPrincipal principal);
+
+        boolean authenticate(String token, UserPrincipal principal);
+    }
+
+    private static Tokens current(long tokenCacheSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        setField(jwtUtil, "jwtSecret", SECRET);
+        setField(jwtUtil, "jwtExpirationMs", EXPIRATION_MS);
+        setField(jwtUtil, "tokenCacheMaxSize", tokenCacheSize);
+        Method init = ReflectionUtils.findMethod(JwtUtil.class, "init");
+        ReflectionUtils.makeAccessible(init);
+        ReflectionUtils.invokeMethod(init, jwtUtil);
+
+        return new Tokens() {
+            @Override
+            public String generate(UserPrincipal principal) {
+                return jwtUtil.generateToken(principal);
+            }
+
+            @Override
+            public boolean authenticate(String token, UserPrincipal principal) {
+                return jwtUtil.validateClaims(jwtUtil.parseToken(token), principal);
+            }
+        };
+    }
+
+    /**
+     * The previous JwtUtil, kept here as the baseline. The filter called
+     * getUsernameFromToken and then validateToken(token, user), which parses
+     * twice more (subject and expiration).
+     */
+    private static final class RebuildPerCall implements Tokens {
+
+        @Override
+        public String generate(UserPrincipal principal) {
+            return Jwts.builder()
+                    .setSubject(principal.getUsername())
+                    .setIssuedAt(new Date())
+                    .setExpiration(new Date((new Date()).getTime() + EXPIRATION_MS))
+                    .signWith(signingKey(), SignatureAlgorithm.HS256)
+                    .compact();
+        }
+
+        @Override
+        public boolean authenticate(String token, UserPrincipal principal) {
+            // The filter loaded the user by this name before validating
+            String username = claims(token).getSubject();
+            return username != null
+                    && claims(token).getSubject().equals(principal.getUsername())
+                    && !claims(token).getExpiration().before(new Date());
+        }
+
+        private static Claims claims(String token) {
+            return Jwts.parserBuilder()
+                    .setSigningKey(signingKey())
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        }
+
+        private static Key signingKey() {
+            return Keys.hmacShaKeyFor(SECRET.getBytes());
+        }
+    }
+
+    private static void setField(JwtUtil jwtUtil, String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtUtil.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, jwtUtil, value);
+    }
+}
@@ -0,0 +1,60 @@
+package com.trabahanap.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.trabahanap.dto.response.ApplicationDTO;
+import com.trabahanap.dto.response.JobDTO;
+import com.trabahanap.mapper.JobMapper;
+import com.trabahanap.model.Job;
+import com.trabahanap.model.JobApplication;
+
+/**
+ * Entity-to-DTO mapping on large lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MapperBenchmark {
+
+    @Param({ "100", "10000" })
+    int size;
+
+    List<Job> jobs;
+    List<JobApplication> applications;
+
+    @Setup
+    public void setUp() {
+        jobs = BenchmarkData.jobs(size);
+        applications = BenchmarkData.applications(jobs);
+    }
+
+    @Benchmark
+    public List<JobDTO> jobMapperToDTOList() {
+        return JobMapper.toDTOList(jobs);
+    }
+
+    @Benchmark
+    public void jobDTOFromJob(Blackhole blackhole) {
+        for (Job job : jobs) {
+            blackhole.consume(JobDTO.fromJob(job));
+        }
+    }
+
+    @Benchmark
+    public void applicationDTOFromApplication(Blackhole blackhole) {
+        for (JobApplication application : applications) {
+            blackhole.consume(ApplicationDTO.fromApplication(application));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.trabahanap.benchmark;
+
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.trabahanap.TrabahanapApplication;
+import com.trabahanap.dto.response.SavedJobDTO;
+import com.trabahanap.model.Job;
+import com.trabahanap.model.SavedJob;
+import com.trabahanap.model.User;
+import com.trabahanap.repository.JobRepository;
+import com.trabahanap.repository.SavedJobRepository;
+import com.trabahanap.repository.UserRepository;
+import com.trabahanap.service.SavedJobService;
+
+/**
+ * Saved-jobs listing (DTO projection query in SavedJobService.getMySavedJobs)
+ * against the embedded H2 database seeded with one seeker's saved jobs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SavedJobServiceBenchmark {
+
+    @Param({ "50", "500" })
+    int savedJobs;
+
+    ConfigurableApplicationContext context;
+    SavedJobService savedJobService;
+    Long seekerId;
+
+    @Setup
+    public void setUp() throws Exception {
+        SpringApplication application = new SpringApplication(TrabahanapApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--app.upload-dir=" + Files.createTempDirectory("trabahanap-bench"),
+                "--logging.level.root=WARN");
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        JobRepository jobRepository = context.getBean(JobRepository.class);
+        SavedJobRepository savedJobRepository = context.getBean(SavedJobRepository.class);
+
+        User employer = new User("bench-employer", "bench-employer@example.com", "password");
+        employer = userRepository.save(employer);
+        User seeker = userRepository.save(new User("bench-seeker", "bench-seeker@example.com", "password"));
+        seekerId = seeker.getId();
+
+        for (int i = 1; i <= savedJobs; i++) {
+            Job job = BenchmarkData.job(i, employer);
+            job.setId(null);
+            job = jobRepository.save(job);
+            savedJobRepository.save(new SavedJob(seeker, job));
+        }
+
+        savedJobService = context.getBean(SavedJobService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<SavedJobDTO> getMySavedJobs() {
+        return savedJobService.getMySavedJobs(seekerId);
+    }
+}
@@ -0,0 +1,37 @@
+package com.trabahanap.config;
+
+import java.net.URI;
+
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Builds the Caffeine JCache manager for the Hibernate second-level cache from
+ * hibernate-jcache.conf. Passed to Hibernate as an instance because Hibernate
+ * resolves hibernate.javax.cache.uri through its own class loader lookup, which
+ * only finds "classpath:" resources inside the packaged jar; Caffeine resolves
+ * the classpath URI itself, so this works from the jar, the IDE and the
+ * benchmark runner alike. Hibernate closes the manager on shutdown.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    private static final URI CACHE_CONFIG = URI.create("classpath:hibernate-jcache.conf");
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManager() {
+        return properties -> {
+            ClassLoader classLoader = HibernateCacheConfig.class.getClassLoader();
+            CachingProvider provider = Caching.getCachingProvider(
+                    CaffeineCachingProvider.class.getName(), classLoader);
+            properties.put(ConfigSettings.CACHE_MANAGER, provider.getCacheManager(CACHE_CONFIG, classLoader));
+        };
+    }
+}
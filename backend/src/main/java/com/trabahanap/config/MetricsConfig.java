@@ -0,0 +1,32 @@
+package com.trabahanap.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Metrics instrumentation: @Timed support for service classes and the
+ * per-request SQL statement counter. Everything is published at
+ * /actuator/prometheus.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Times methods of classes annotated with @Timed (trabahanap.service
+     * timer, tagged with class and method).
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        return properties -> properties.put("hibernate.session_factory.statement_inspector",
+                new QueryCountInspector());
+    }
+}
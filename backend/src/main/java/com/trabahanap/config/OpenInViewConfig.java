@@ -0,0 +1,49 @@
+package com.trabahanap.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Open-in-view for every request except the async ones (streamed files, SSE)
+ * and apply. Replaces Spring Boot's registration, which backs off when this
+ * bean exists.
+ *
+ * An async request keeps its open-in-view connection until the async dispatch
+ * completes, and that dispatch needs a free request thread. Under load every
+ * request thread can be waiting for a connection held by such a request, so
+ * these endpoints run their queries in plain repository transactions instead.
+ * Apply is excluded for the same reason: it waits on upload staging, which
+ * needs connections of its own, after its first queries.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.jpa", name = "open-in-view", havingValue = "true", matchIfMissing = true)
+public class OpenInViewConfig {
+
+    private static final String[] EXCLUDED_PATHS = {
+            "/api/applications/apply",
+            "/api/applications/download/**",
+            "/api/applications/view/**",
+            "/api/applications/stream",
+            "/api/users/resume/*/view",
+            "/api/users/resume/*/download"
+    };
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Bean
+    public WebMvcConfigurer openEntityManagerInViewConfigurer(OpenEntityManagerInViewInterceptor interceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addWebRequestInterceptor(interceptor).excludePathPatterns(EXCLUDED_PATHS);
+            }
+        };
+    }
+}
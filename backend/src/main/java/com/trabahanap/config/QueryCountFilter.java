@@ -0,0 +1,122 @@
+package com.trabahanap.config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Records the number of SQL statements executed per request as the
+ * http.server.requests.queries summary, tagged like http.server.requests,
+ * so N+1 regressions show up per endpoint. Requests that run more statements
+ * than app.query-guard.warn-threshold are logged. Runs before the security
+ * filters so principal lookups are included.
+ *
+ * With app.query-guard.header-enabled the count so far is also sent as an
+ * X-Query-Count header, set when the handler starts writing the body, so
+ * integration tests can assert a per-endpoint query budget. Streamed bodies
+ * (file downloads) get it too, since their output stream is opened on the
+ * request thread before streaming starts.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 0 disables the warning
+    @Value("${app.query-guard.warn-threshold:10}")
+    private int warnThreshold;
+
+    @Value("${app.query-guard.header-enabled:false}")
+    private boolean headerEnabled;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain chain) throws ServletException, IOException {
+        QueryCountInspector.begin();
+        try {
+            if (headerEnabled) {
+                QueryCountHeaderResponse counted = new QueryCountHeaderResponse(response);
+                chain.doFilter(request, counted);
+                // Responses without a body (204, 304, errors sent by the container)
+                counted.writeHeader();
+            } else {
+                chain.doFilter(request, response);
+            }
+        } finally {
+            int queries = QueryCountInspector.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder("http.server.requests.queries")
+                    .description("SQL statements executed per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(queries);
+            if (warnThreshold > 0 && queries > warnThreshold) {
+                logger.warn("{} {} ran {} SQL statements (threshold {}): {}",
+                        request.getMethod(), uri, queries, warnThreshold, request.getRequestURI());
+            }
+        }
+    }
+
+    /**
+     * Sets the query count header before the body is first written.
+     */
+    private static final class QueryCountHeaderResponse extends HttpServletResponseWrapper {
+
+        private boolean written;
+
+        QueryCountHeaderResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        void writeHeader() {
+            if (!written && !isCommitted()) {
+                setHeader(HEADER, String.valueOf(QueryCountInspector.current()));
+            }
+            written = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.trabahanap.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * Counting is only active between begin() and end(), which QueryCountFilter
+ * calls around each HTTP request.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<AtomicInteger> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger count = COUNT.get();
+        if (count != null) {
+            count.incrementAndGet();
+        }
+        return sql;
+    }
+
+    /**
+     * Start counting statements on the current thread.
+     */
+    public static void begin() {
+        COUNT.set(new AtomicInteger());
+    }
+
+    /**
+     * Statements counted so far on the current thread, or 0 if not counting.
+     */
+    public static int current() {
+        AtomicInteger count = COUNT.get();
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * Stop counting and return the number of statements since begin().
+     */
+    public static int end() {
+        int count = current();
+        COUNT.remove();
+        return count;
+    }
+
+    /**
+     * Wrap an executor so that statements run by tasks submitted from a counting
+     * thread are added to that thread's count. For work a request waits on,
+     * such as upload staging.
+     */
+    public static Executor counting(Executor executor) {
+        return task -> {
+            AtomicInteger count = COUNT.get();
+            if (count == null) {
+                executor.execute(task);
+                return;
+            }
+            executor.execute(() -> {
+                AtomicInteger previous = COUNT.get();
+                COUNT.set(count);
+                try {
+                    task.run();
+                } finally {
+                    if (previous == null) {
+                        COUNT.remove();
+                    } else {
+                        COUNT.set(previous);
+                    }
+                }
+            });
+        };
+    }
+}
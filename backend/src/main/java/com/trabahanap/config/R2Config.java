@@ -6,7 +6,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 
 import java.net.URI;
@@ -28,6 +30,15 @@ public class R2Config {
     @Value("${app.r2.secret-key:}")
     private String secretKey;
 
+    @Value("${app.r2.max-concurrency:64}")
+    private int maxConcurrency;
+
+    @Value("${app.r2.multipart.threshold-bytes:8388608}")
+    private long multipartThresholdBytes;
+
+    @Value("${app.r2.multipart.part-size-bytes:8388608}")
+    private long multipartPartSizeBytes;
+
     @Bean
     public S3Client s3Client() {
         // Validate configuration - log errors but don't crash
@@ -63,6 +74,42 @@ public class R2Config {
         }
     }
 
+    /**
+     * Async client used for uploads. Objects larger than the multipart threshold
+     * are sent as parts uploaded in parallel, up to max-concurrency requests.
+     */
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient() {
+        boolean configured = endpoint != null && !endpoint.trim().isEmpty()
+                && accessKey != null && !accessKey.trim().isEmpty()
+                && secretKey != null && !secretKey.trim().isEmpty();
+
+        // Same fallback as s3Client(): start anyway and fail on use
+        URI clientEndpoint = URI.create("https://dummy.r2.cloudflarestorage.com");
+        AwsBasicCredentials credentials = AwsBasicCredentials.create("dummy", "dummy");
+        if (configured) {
+            try {
+                clientEndpoint = URI.create(endpoint);
+                credentials = AwsBasicCredentials.create(accessKey, secretKey);
+            } catch (IllegalArgumentException e) {
+                System.err.println("⚠️ Invalid R2_ENDPOINT for S3AsyncClient: " + e.getMessage());
+            }
+        }
+
+        return S3AsyncClient.builder()
+                .endpointOverride(clientEndpoint)
+                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .region(Region.of("auto"))
+                .forcePathStyle(true)
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConcurrency))
+                .multipartEnabled(true)
+                .multipartConfiguration(multipart -> multipart
+                        .thresholdInBytes(multipartThresholdBytes)
+                        .minimumPartSizeInBytes(multipartPartSizeBytes))
+                .build();
+    }
+
     /**
      * Creates a dummy S3Client that will fail gracefully on operations.
      * This allows the app to start even with bad R2 config.
@@ -0,0 +1,12 @@
+package com.trabahanap.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled methods (SSE heartbeats and other periodic jobs).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
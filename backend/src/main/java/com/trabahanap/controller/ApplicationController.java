@@ -1,21 +1,32 @@
 package com.trabahanap.controller;
 
+import com.trabahanap.dto.request.ApplyRequest;
+import com.trabahanap.dto.request.BulkStatusUpdateRequest;
 import com.trabahanap.dto.request.StatusUpdateRequest;
 import com.trabahanap.dto.response.ApplicationDTO;
-import com.trabahanap.model.JobApplication;
+import com.trabahanap.dto.response.ApplicationSummaryDTO;
+import com.trabahanap.dto.response.BulkStatusUpdateDTO;
+import com.trabahanap.dto.response.CursorPageDTO;
 import com.trabahanap.repository.JobApplicationRepository;
+import com.trabahanap.repository.JobApplicationRepository.ApplicationFiles;
 import com.trabahanap.service.ApplicationService;
+import com.trabahanap.service.ApplicationStreamService;
 import com.trabahanap.service.FileStorageService;
+import com.trabahanap.service.StoredFile;
 import com.trabahanap.security.UserPrincipal;
+import com.trabahanap.util.FileDownloads;
+
+import jakarta.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
@@ -39,16 +50,34 @@ public class ApplicationController {
     @Autowired
     private FileStorageService fileStorageService;
 
+    @Autowired
+    private ApplicationStreamService applicationStreamService;
+
     @PostMapping("/apply")
     public ResponseEntity<ApplicationDTO> applyForJob(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @RequestParam("jobId") Long jobId,
             @RequestParam(value = "coverLetterText", required = false, defaultValue = "") String coverLetterText,
             @RequestParam(value = "coverLetterPdf", required = false) MultipartFile coverLetterPdf,
-            @RequestParam(value = "resumePdf", required = false) MultipartFile resumePdf) {
+            @RequestParam(value = "resumePdf", required = false) MultipartFile resumePdf,
+            @RequestParam(value = "resumeId", required = false) Long resumeId) {
 
         ApplicationDTO application = applicationService.applyForJob(
-                userPrincipal.getId(), jobId, coverLetterText, coverLetterPdf, resumePdf);
+                userPrincipal.getId(), jobId, coverLetterText, coverLetterPdf, resumePdf, resumeId);
+        return ResponseEntity.ok(application);
+    }
+
+    /**
+     * Apply with a saved resume referenced by ID (no file upload).
+     */
+    @PostMapping(value = "/apply", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApplicationDTO> applyWithSavedResume(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody ApplyRequest request) {
+
+        String coverLetterText = request.getCoverLetterText() != null ? request.getCoverLetterText() : "";
+        ApplicationDTO application = applicationService.applyForJob(
+                userPrincipal.getId(), request.getJobId(), coverLetterText, null, null, request.getResumeId());
         return ResponseEntity.ok(application);
     }
 
@@ -59,6 +88,19 @@ public class ApplicationController {
         return ResponseEntity.ok(applications);
     }
 
+    /**
+     * Server-Sent Events stream of "application" events for the current user:
+     * new applications and status changes, as applicant or as employer.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamApplicationUpdates(
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        SseEmitter emitter = applicationStreamService.subscribe(userPrincipal.getId());
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
     @GetMapping("/check/{jobId}")
     public ResponseEntity<Map<String, Boolean>> checkApplication(
             @PathVariable Long jobId,
@@ -69,6 +111,13 @@ public class ApplicationController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * All of the employer's applications; 400 if there are more than Constants.MAX_PAGE_SIZE.
+     * Kept for existing clients; "/employer/inbox" pages through all of them.
+     *
+     * @deprecated use "/employer/inbox"
+     */
+    @Deprecated
     @GetMapping("/employer")
     public ResponseEntity<List<ApplicationDTO>> getEmployerApplications(
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
@@ -76,6 +125,26 @@ public class ApplicationController {
         return ResponseEntity.ok(applications);
     }
 
+    @GetMapping("/employer/inbox")
+    public ResponseEntity<CursorPageDTO<ApplicationSummaryDTO>> getEmployerInbox(
+            @RequestParam(value = "jobId", required = false) Long jobId,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        CursorPageDTO<ApplicationSummaryDTO> inbox = applicationService.getEmployerInbox(
+                userPrincipal.getId(), jobId, status, cursor, size);
+        return ResponseEntity.ok(inbox);
+    }
+
+    @GetMapping("/{applicationId}")
+    public ResponseEntity<ApplicationDTO> getApplication(
+            @PathVariable Long applicationId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        ApplicationDTO application = applicationService.getApplicationForUser(userPrincipal.getId(), applicationId);
+        return ResponseEntity.ok(application);
+    }
+
     @PutMapping("/update-status/{applicationId}")
     public ResponseEntity<ApplicationDTO> updateApplicationStatus(
             @PathVariable Long applicationId,
@@ -87,18 +156,32 @@ public class ApplicationController {
         return ResponseEntity.ok(application);
     }
 
+    /**
+     * Set the status of several applications in one request.
+     */
+    @PutMapping("/bulk-update-status")
+    public ResponseEntity<BulkStatusUpdateDTO> bulkUpdateApplicationStatus(
+            @Valid @RequestBody BulkStatusUpdateRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        BulkStatusUpdateDTO result = applicationService.bulkUpdateApplicationStatus(
+                userPrincipal.getId(), request.getApplicationIds(), request.getStatus());
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/download/{applicationId}/{fileType}")
-    public ResponseEntity<Resource> downloadFile(
+    public ResponseEntity<StreamingResponseBody> downloadFile(
             @PathVariable Long applicationId,
             @PathVariable String fileType,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
 
-        JobApplication application = applicationRepository.findById(applicationId)
+        ApplicationFiles application = applicationRepository.findFilesById(applicationId)
                 .orElseThrow(() -> new RuntimeException("Application not found"));
 
         // Check permissions
-        if (!application.getApplicant().getId().equals(userPrincipal.getId()) &&
-                !application.getJob().getPostedBy().getId().equals(userPrincipal.getId())) {
+        if (!application.getApplicantId().equals(userPrincipal.getId()) &&
+                !application.getEmployerId().equals(userPrincipal.getId())) {
             return ResponseEntity.status(403).build();
         }
 
@@ -119,30 +202,31 @@ public class ApplicationController {
             return ResponseEntity.notFound().build();
         }
 
-        Resource resource = fileStorageService.loadFileAsResource(filePath);
+        StoredFile file = fileStorageService.openFile(filePath);
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
-                .body(resource);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        return FileDownloads.stream(file, range, headers);
     }
 
     @GetMapping("/view/{applicationId}/{fileType}")
-    public ResponseEntity<Resource> viewFile(
+    public ResponseEntity<StreamingResponseBody> viewFile(
             @PathVariable Long applicationId,
             @PathVariable String fileType,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
 
         if (userPrincipal == null) {
             return ResponseEntity.status(401).build();
         }
 
-        JobApplication application = applicationRepository.findById(applicationId)
+        ApplicationFiles application = applicationRepository.findFilesById(applicationId)
                 .orElseThrow(() -> new RuntimeException("Application not found"));
 
         // Check permissions
-        boolean isApplicant = application.getApplicant().getId().equals(userPrincipal.getId());
-        boolean isJobPoster = application.getJob().getPostedBy().getId().equals(userPrincipal.getId());
+        boolean isApplicant = application.getApplicantId().equals(userPrincipal.getId());
+        boolean isJobPoster = application.getEmployerId().equals(userPrincipal.getId());
 
         if (!isApplicant && !isJobPoster) {
             return ResponseEntity.status(403).build();
@@ -162,17 +246,13 @@ public class ApplicationController {
             return ResponseEntity.notFound().build();
         }
 
-        Resource resource = fileStorageService.loadFileAsResource(filePath);
+        StoredFile file = fileStorageService.openFile(filePath);
 
-        if (resource == null || !resource.exists()) {
-            return ResponseEntity.notFound().build();
-        }
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
-                .header("X-Frame-Options", "SAMEORIGIN")
-                .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
-                .body(resource);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "inline");
+        headers.set("X-Frame-Options", "SAMEORIGIN");
+        headers.setCacheControl("no-cache, no-store, must-revalidate");
+        return FileDownloads.stream(file, range, headers);
     }
 }
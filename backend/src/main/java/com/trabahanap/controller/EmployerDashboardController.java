@@ -0,0 +1,35 @@
+package com.trabahanap.controller;
+
+import com.trabahanap.dto.response.EmployerDashboardDTO;
+import com.trabahanap.service.EmployerDashboardService;
+import com.trabahanap.security.UserPrincipal;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller for the employer dashboard.
+ * Delegates to EmployerDashboardService, which serves precomputed snapshots.
+ */
+@RestController
+@RequestMapping("/api/employer")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class EmployerDashboardController {
+
+    @Autowired
+    private EmployerDashboardService employerDashboardService;
+
+    /**
+     * Stats, recent jobs and recent applications in one response.
+     * Replaces separate calls to /api/employer/jobs/stats, /api/employer/jobs/recent
+     * and /api/applications/employer.
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<EmployerDashboardDTO> getDashboard(
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        EmployerDashboardDTO dashboard = employerDashboardService.getDashboard(userPrincipal.getId());
+        return ResponseEntity.ok(dashboard);
+    }
+}
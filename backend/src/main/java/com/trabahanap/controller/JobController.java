@@ -1,11 +1,20 @@
 package com.trabahanap.controller;
 
 import com.trabahanap.dto.request.JobCreateRequest;
+import com.trabahanap.dto.response.CursorPageDTO;
 import com.trabahanap.dto.response.JobDTO;
+import com.trabahanap.dto.response.JobFlagsDTO;
+import com.trabahanap.dto.response.JobSearchResultDTO;
+import com.trabahanap.dto.response.JobSummaryDTO;
+import com.trabahanap.service.JobDetailCache;
+import com.trabahanap.service.JobFlagsService;
+import com.trabahanap.service.JobSearchService;
 import com.trabahanap.service.JobService;
 import com.trabahanap.security.UserPrincipal;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -25,12 +34,52 @@ public class JobController {
     @Autowired
     private JobService jobService;
 
+    @Autowired
+    private JobSearchService jobSearchService;
+
+    @Autowired
+    private JobDetailCache jobDetailCache;
+
+    @Autowired
+    private JobFlagsService jobFlagsService;
+
     @GetMapping
-    public ResponseEntity<List<JobDTO>> getAllJobs() {
-        List<JobDTO> jobs = jobService.getAllJobs();
+    public ResponseEntity<List<JobSummaryDTO>> getAllJobs() {
+        List<JobSummaryDTO> jobs = jobService.getAllJobs();
         return ResponseEntity.ok(jobs);
     }
 
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPageDTO<JobSummaryDTO>> getJobFeed(
+            @RequestParam(value = "location", required = false) String location,
+            @RequestParam(value = "jobType", required = false) String jobType,
+            @RequestParam(value = "minSalary", required = false) Double minSalary,
+            @RequestParam(value = "maxSalary", required = false) Double maxSalary,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        CursorPageDTO<JobSummaryDTO> feed = jobService.getJobFeed(location, jobType, minSalary, maxSalary, cursor, size);
+        return ResponseEntity.ok(feed);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<JobSearchResultDTO>> searchJobs(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        List<JobSearchResultDTO> results = jobSearchService.search(query, limit);
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Applied/saved flags of the current user for a list of jobs,
+     * e.g. GET /api/jobs/flags?ids=1,2,3
+     */
+    @GetMapping("/flags")
+    public ResponseEntity<List<JobFlagsDTO>> getJobFlags(
+            @RequestParam("ids") List<Long> ids,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return ResponseEntity.ok(jobFlagsService.getFlags(userPrincipal.getId(), ids));
+    }
+
     @PostMapping
     public ResponseEntity<JobDTO> postJob(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
@@ -39,9 +88,20 @@ public class JobController {
         return ResponseEntity.ok(job);
     }
 
+    /**
+     * Job detail served from JobDetailCache. The response carries ETag and
+     * Last-Modified; matching If-None-Match / If-Modified-Since requests get 304.
+     * no-cache lets clients store it and revalidate (Spring Security's default
+     * no-store is only written when no Cache-Control is set).
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<JobDTO> getJobById(@PathVariable Long id) {
-        JobDTO job = jobService.getJobById(id);
-        return ResponseEntity.ok(job);
+    public ResponseEntity<byte[]> getJobById(@PathVariable Long id) {
+        JobDetailCache.Entry job = jobDetailCache.get(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(job.etag())
+                .lastModified(job.lastModified())
+                .body(job.body());
     }
 }
\ No newline at end of file
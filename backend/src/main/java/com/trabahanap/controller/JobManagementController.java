@@ -3,6 +3,7 @@ package com.trabahanap.controller;
 import com.trabahanap.dto.request.JobUpdateRequest;
 import com.trabahanap.dto.response.JobDTO;
 import com.trabahanap.dto.response.JobStatsDTO;
+import com.trabahanap.dto.response.JobSummaryDTO;
 import com.trabahanap.dto.response.MessageResponse;
 import com.trabahanap.service.JobService;
 import com.trabahanap.security.UserPrincipal;
@@ -28,9 +29,9 @@ public class JobManagementController {
     private JobService jobService;
 
     @GetMapping
-    public ResponseEntity<List<JobDTO>> getEmployerJobs(
+    public ResponseEntity<List<JobSummaryDTO>> getEmployerJobs(
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
-        List<JobDTO> jobs = jobService.getEmployerJobs(userPrincipal.getId());
+        List<JobSummaryDTO> jobs = jobService.getEmployerJobs(userPrincipal.getId());
         return ResponseEntity.ok(jobs);
     }
 
@@ -59,9 +60,9 @@ public class JobManagementController {
     }
 
     @GetMapping("/recent")
-    public ResponseEntity<List<JobDTO>> getRecentEmployerJobs(
+    public ResponseEntity<List<JobSummaryDTO>> getRecentEmployerJobs(
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
-        List<JobDTO> jobs = jobService.getRecentEmployerJobs(userPrincipal.getId(), 3);
+        List<JobSummaryDTO> jobs = jobService.getRecentEmployerJobs(userPrincipal.getId(), 3);
         return ResponseEntity.ok(jobs);
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.trabahanap.controller;
 
+import com.trabahanap.dto.response.CursorPageDTO;
+import com.trabahanap.dto.response.SavedJobDTO;
 import com.trabahanap.service.SavedJobService;
 import com.trabahanap.security.UserPrincipal;
 
@@ -41,12 +43,20 @@ public class SavedJobController {
     }
 
     @GetMapping("/my-saved-jobs")
-    public ResponseEntity<List<Map<String, Object>>> getMySavedJobs(
+    public ResponseEntity<List<SavedJobDTO>> getMySavedJobs(
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
-        List<Map<String, Object>> savedJobs = savedJobService.getMySavedJobs(userPrincipal.getId());
+        List<SavedJobDTO> savedJobs = savedJobService.getMySavedJobs(userPrincipal.getId());
         return ResponseEntity.ok(savedJobs);
     }
 
+    @GetMapping("/my-saved-jobs/page")
+    public ResponseEntity<CursorPageDTO<SavedJobDTO>> getMySavedJobsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return ResponseEntity.ok(savedJobService.getMySavedJobsPage(userPrincipal.getId(), cursor, size));
+    }
+
     @GetMapping("/is-saved/{jobId}")
     public ResponseEntity<Map<String, Boolean>> isJobSaved(
             @PathVariable Long jobId,
@@ -2,7 +2,6 @@ package com.trabahanap.controller;
 
 import java.util.List;
 
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -13,14 +12,18 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.trabahanap.dto.response.UserResumeDTO;
-import com.trabahanap.model.User;
+import com.trabahanap.security.UserPrincipal;
+import com.trabahanap.service.StoredFile;
 import com.trabahanap.service.UserResumeService;
+import com.trabahanap.util.FileDownloads;
 
 @RestController
 @RequestMapping("/api/users/resume")
@@ -38,7 +41,7 @@ public class UserResumeController {
      */
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<UserResumeDTO> uploadResume(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestParam("resume") MultipartFile file) {
 
         UserResumeDTO resume = userResumeService.uploadResume(user.getId(), file);
@@ -51,7 +54,7 @@ public class UserResumeController {
      */
     @GetMapping
     public ResponseEntity<List<UserResumeDTO>> getUserResumes(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal UserPrincipal user) {
 
         List<UserResumeDTO> resumes = userResumeService.getUserResumes(user.getId());
         return ResponseEntity.ok(resumes);
@@ -63,7 +66,7 @@ public class UserResumeController {
      */
     @GetMapping("/default")
     public ResponseEntity<UserResumeDTO> getDefaultResume(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal UserPrincipal user) {
 
         UserResumeDTO resume = userResumeService.getDefaultResume(user.getId());
         return ResponseEntity.ok(resume);
@@ -76,7 +79,7 @@ public class UserResumeController {
     @PatchMapping("/{id}/default")
     public ResponseEntity<UserResumeDTO> setDefaultResume(
             @PathVariable Long id,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal UserPrincipal user) {
 
         UserResumeDTO resume = userResumeService.setDefaultResume(id, user.getId());
         return ResponseEntity.ok(resume);
@@ -87,16 +90,17 @@ public class UserResumeController {
      * GET /api/users/resume/{id}/view
      */
     @GetMapping("/{id}/view")
-    public ResponseEntity<Resource> viewResume(
+    public ResponseEntity<StreamingResponseBody> viewResume(
             @PathVariable Long id,
-            @AuthenticationPrincipal User user) {
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @AuthenticationPrincipal UserPrincipal user) {
 
-        Resource resource = userResumeService.viewResume(id, user.getId());
+        StoredFile file = userResumeService.viewResume(id, user.getId());
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"resume.pdf\"")
-                .body(resource);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"resume.pdf\"");
+        return FileDownloads.stream(file, range, headers);
     }
 
     /**
@@ -104,16 +108,17 @@ public class UserResumeController {
      * GET /api/users/resume/{id}/download
      */
     @GetMapping("/{id}/download")
-    public ResponseEntity<Resource> downloadResume(
+    public ResponseEntity<StreamingResponseBody> downloadResume(
             @PathVariable Long id,
-            @AuthenticationPrincipal User user) {
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @AuthenticationPrincipal UserPrincipal user) {
 
-        Resource resource = userResumeService.downloadResume(id, user.getId());
+        StoredFile file = userResumeService.downloadResume(id, user.getId());
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"resume.pdf\"")
-                .body(resource);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"resume.pdf\"");
+        return FileDownloads.stream(file, range, headers);
     }
 
     /**
@@ -123,7 +128,7 @@ public class UserResumeController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteResume(
             @PathVariable Long id,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal UserPrincipal user) {
 
         userResumeService.deleteResume(id, user.getId());
         return ResponseEntity.noContent().build();
@@ -135,7 +140,7 @@ public class UserResumeController {
      */
     @GetMapping("/count")
     public ResponseEntity<Long> getResumeCount(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal UserPrincipal user) {
 
         long count = userResumeService.getResumeCount(user.getId());
         return ResponseEntity.ok(count);
@@ -0,0 +1,51 @@
+package com.trabahanap.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Request DTO for applying to a job with an already stored resume.
+ */
+public class ApplyRequest {
+
+    @NotNull(message = "Job ID is required")
+    private Long jobId;
+
+    private Long resumeId;
+
+    private String coverLetterText;
+
+    // Constructors
+    public ApplyRequest() {
+    }
+
+    public ApplyRequest(Long jobId, Long resumeId, String coverLetterText) {
+        this.jobId = jobId;
+        this.resumeId = resumeId;
+        this.coverLetterText = coverLetterText;
+    }
+
+    // Getters and Setters
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public Long getResumeId() {
+        return resumeId;
+    }
+
+    public void setResumeId(Long resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public String getCoverLetterText() {
+        return coverLetterText;
+    }
+
+    public void setCoverLetterText(String coverLetterText) {
+        this.coverLetterText = coverLetterText;
+    }
+}
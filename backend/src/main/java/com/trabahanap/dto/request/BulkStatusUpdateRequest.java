@@ -0,0 +1,48 @@
+package com.trabahanap.dto.request;
+
+import java.util.List;
+
+import com.trabahanap.util.Constants;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request DTO for setting the status of several applications at once.
+ */
+public class BulkStatusUpdateRequest {
+
+    @NotEmpty(message = "Application IDs are required")
+    @Size(max = Constants.MAX_BULK_UPDATE_SIZE, message = "Too many applications in one request")
+    private List<Long> applicationIds;
+
+    @NotBlank(message = "Status is required")
+    private String status;
+
+    // Constructors
+    public BulkStatusUpdateRequest() {
+    }
+
+    public BulkStatusUpdateRequest(List<Long> applicationIds, String status) {
+        this.applicationIds = applicationIds;
+        this.status = status;
+    }
+
+    // Getters and Setters
+    public List<Long> getApplicationIds() {
+        return applicationIds;
+    }
+
+    public void setApplicationIds(List<Long> applicationIds) {
+        this.applicationIds = applicationIds;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
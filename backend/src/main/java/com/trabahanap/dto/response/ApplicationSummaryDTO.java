@@ -0,0 +1,27 @@
+package com.trabahanap.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.trabahanap.model.JobApplication.ApplicationStatus;
+
+/**
+ * Response DTO for employer inbox rows.
+ * Built by a JPQL constructor expression in JobApplicationRepository and
+ * carries only the start of the cover letter text; fetch
+ * GET /api/applications/{id} for all of it.
+ */
+public record ApplicationSummaryDTO(Long id, Long jobId, String jobTitle, String company,
+        String applicantUsername, String applicantEmail, String status, String coverLetterPath,
+        String coverLetterSnippet, String resumePath, LocalDateTime appliedAt, LocalDateTime updatedAt) {
+
+    /**
+     * Constructor used by the JPQL "SELECT new" projection.
+     */
+    public ApplicationSummaryDTO(Long id, Long jobId, String jobTitle, String company,
+            String applicantUsername, String applicantEmail, ApplicationStatus status, String coverLetterPath,
+            String coverLetterSnippet, String resumePath, LocalDateTime appliedAt, LocalDateTime updatedAt) {
+        this(id, jobId, jobTitle, company, applicantUsername, applicantEmail,
+                status != null ? status.toString() : null, coverLetterPath, coverLetterSnippet, resumePath,
+                appliedAt, updatedAt);
+    }
+}
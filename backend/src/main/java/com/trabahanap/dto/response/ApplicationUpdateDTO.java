@@ -0,0 +1,22 @@
+package com.trabahanap.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.trabahanap.event.ApplicationChangedEvent;
+
+/**
+ * Payload of an "application" event on the application SSE stream.
+ */
+public record ApplicationUpdateDTO(String type, Long applicationId, Long jobId, String previousStatus,
+        String status, LocalDateTime occurredAt) {
+
+    public static ApplicationUpdateDTO fromEvent(ApplicationChangedEvent event) {
+        return new ApplicationUpdateDTO(
+                event.getChangeType().toString(),
+                event.getApplicationId(),
+                event.getJobId(),
+                event.getPreviousStatus() != null ? event.getPreviousStatus().toString() : null,
+                event.getStatus() != null ? event.getStatus().toString() : null,
+                event.getOccurredAt());
+    }
+}
@@ -0,0 +1,23 @@
+package com.trabahanap.dto.response;
+
+import java.util.List;
+
+/**
+ * Response DTO for a bulk application status update: the number of rows
+ * changed and the outcome for each requested application id.
+ */
+public record BulkStatusUpdateDTO(String status, int updatedCount, List<Item> results) {
+
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,
+        NOT_FOUND,
+        FORBIDDEN
+    }
+
+    /**
+     * Outcome for one application id.
+     */
+    public record Item(Long applicationId, Outcome outcome) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.trabahanap.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Employer dashboard snapshot: job and application statistics, the newest
+ * jobs and the newest applications. refreshedAt is when it was computed.
+ */
+public record EmployerDashboardDTO(
+        JobStatsDTO stats,
+        List<JobSummaryDTO> recentJobs,
+        List<ApplicationSummaryDTO> recentApplications,
+        LocalDateTime refreshedAt) {
+}
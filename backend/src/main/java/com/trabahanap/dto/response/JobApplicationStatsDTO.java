@@ -0,0 +1,81 @@
+package com.trabahanap.dto.response;
+
+/**
+ * Response DTO for application counts of a single job.
+ */
+public class JobApplicationStatsDTO {
+
+    private Long jobId;
+    private long totalApplications;
+    private long pendingApplications;
+    private long reviewedApplications;
+    private long acceptedApplications;
+    private long rejectedApplications;
+
+    // Constructors
+    public JobApplicationStatsDTO() {
+    }
+
+    public JobApplicationStatsDTO(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public JobApplicationStatsDTO(Long jobId, long totalApplications, long pendingApplications,
+            long reviewedApplications, long acceptedApplications, long rejectedApplications) {
+        this.jobId = jobId;
+        this.totalApplications = totalApplications;
+        this.pendingApplications = pendingApplications;
+        this.reviewedApplications = reviewedApplications;
+        this.acceptedApplications = acceptedApplications;
+        this.rejectedApplications = rejectedApplications;
+    }
+
+    // Getters and Setters
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public long getTotalApplications() {
+        return totalApplications;
+    }
+
+    public void setTotalApplications(long totalApplications) {
+        this.totalApplications = totalApplications;
+    }
+
+    public long getPendingApplications() {
+        return pendingApplications;
+    }
+
+    public void setPendingApplications(long pendingApplications) {
+        this.pendingApplications = pendingApplications;
+    }
+
+    public long getReviewedApplications() {
+        return reviewedApplications;
+    }
+
+    public void setReviewedApplications(long reviewedApplications) {
+        this.reviewedApplications = reviewedApplications;
+    }
+
+    public long getAcceptedApplications() {
+        return acceptedApplications;
+    }
+
+    public void setAcceptedApplications(long acceptedApplications) {
+        this.acceptedApplications = acceptedApplications;
+    }
+
+    public long getRejectedApplications() {
+        return rejectedApplications;
+    }
+
+    public void setRejectedApplications(long rejectedApplications) {
+        this.rejectedApplications = rejectedApplications;
+    }
+}
@@ -18,6 +18,7 @@ public class JobDetailDTO {
     private Double salary;
     private String status;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
     private Long postedById;
     private String postedByUsername;
     private int applicationCount;
@@ -40,6 +41,7 @@ public class JobDetailDTO {
         dto.setRequirements(job.getRequirements());
         dto.setSalary(job.getSalary());
         dto.setCreatedAt(job.getCreatedAt());
+        dto.setUpdatedAt(job.getUpdatedAt());
         if (job.getPostedBy() != null) {
             dto.setPostedById(job.getPostedBy().getId());
             dto.setPostedByUsername(job.getPostedBy().getUsername());
@@ -128,6 +130,14 @@ public class JobDetailDTO {
         this.createdAt = createdAt;
     }
 
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     public Long getPostedById() {
         return postedById;
     }
@@ -0,0 +1,7 @@
+package com.trabahanap.dto.response;
+
+/**
+ * Per-job state for the current user, returned in bulk for a page of job cards.
+ */
+public record JobFlagsDTO(Long jobId, boolean applied, boolean saved) {
+}
@@ -0,0 +1,108 @@
+package com.trabahanap.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for a ranked job search hit.
+ */
+public class JobSearchResultDTO {
+
+    private Long id;
+    private String title;
+    private String company;
+    private String location;
+    private String jobType;
+    private Double salary;
+    private String postedByUsername;
+    private LocalDateTime createdAt;
+    private double score;
+
+    public JobSearchResultDTO() {
+    }
+
+    public JobSearchResultDTO(Long id, String title, String company, String location, String jobType,
+            Double salary, String postedByUsername, LocalDateTime createdAt, double score) {
+        this.id = id;
+        this.title = title;
+        this.company = company;
+        this.location = location;
+        this.jobType = jobType;
+        this.salary = salary;
+        this.postedByUsername = postedByUsername;
+        this.createdAt = createdAt;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public void setCompany(String company) {
+        this.company = company;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getJobType() {
+        return jobType;
+    }
+
+    public void setJobType(String jobType) {
+        this.jobType = jobType;
+    }
+
+    public Double getSalary() {
+        return salary;
+    }
+
+    public void setSalary(Double salary) {
+        this.salary = salary;
+    }
+
+    public String getPostedByUsername() {
+        return postedByUsername;
+    }
+
+    public void setPostedByUsername(String postedByUsername) {
+        this.postedByUsername = postedByUsername;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
@@ -1,5 +1,8 @@
 package com.trabahanap.dto.response;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Response DTO for employer job statistics.
  */
@@ -12,6 +15,8 @@ public class JobStatsDTO {
     private int pendingApplications;
     private int acceptedApplications;
     private int rejectedApplications;
+    private int reviewedApplications;
+    private List<JobApplicationStatsDTO> jobs = new ArrayList<>();
 
     // Constructors
     public JobStatsDTO() {
@@ -85,4 +90,20 @@ public class JobStatsDTO {
     public void setRejectedApplications(int rejectedApplications) {
         this.rejectedApplications = rejectedApplications;
     }
+
+    public int getReviewedApplications() {
+        return reviewedApplications;
+    }
+
+    public void setReviewedApplications(int reviewedApplications) {
+        this.reviewedApplications = reviewedApplications;
+    }
+
+    public List<JobApplicationStatsDTO> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(List<JobApplicationStatsDTO> jobs) {
+        this.jobs = jobs;
+    }
 }
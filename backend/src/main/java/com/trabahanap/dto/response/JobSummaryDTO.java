@@ -0,0 +1,13 @@
+package com.trabahanap.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for job list entries.
+ * Built directly by JPQL constructor expressions in JobRepository; description
+ * holds only the first Constants.JOB_SNIPPET_LENGTH characters and requirements
+ * are not loaded. Use JobDetailDTO (GET /api/jobs/{id}) for the full text.
+ */
+public record JobSummaryDTO(Long id, String title, String company, String location, String jobType,
+        String description, Double salary, String postedByUsername, LocalDateTime createdAt) {
+}
@@ -0,0 +1,26 @@
+package com.trabahanap.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for a saved job list entry.
+ * Built directly by a JPQL constructor expression in SavedJobRepository,
+ * so only summary columns are read (no description or requirements text).
+ */
+public record SavedJobDTO(Long id, LocalDateTime savedAt, JobSummary job) {
+
+    /**
+     * Flat constructor used by the JPQL "SELECT new" projection.
+     */
+    public SavedJobDTO(Long id, LocalDateTime savedAt, Long jobId, String title, String company,
+            String location, String jobType, Double salary, String postedBy, LocalDateTime postedAt) {
+        this(id, savedAt, new JobSummary(jobId, title, company, location, jobType, salary, postedBy, postedAt));
+    }
+
+    /**
+     * Summary fields of the saved job.
+     */
+    public record JobSummary(Long id, String title, String company, String location, String jobType,
+            Double salary, String postedBy, LocalDateTime postedAt) {
+    }
+}
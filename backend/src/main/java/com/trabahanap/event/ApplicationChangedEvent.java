@@ -0,0 +1,85 @@
+package com.trabahanap.event;
+
+import java.time.LocalDateTime;
+
+import com.trabahanap.model.JobApplication.ApplicationStatus;
+
+/**
+ * Published by ApplicationService when an application is submitted or its status changes.
+ * Listeners that notify clients should react after commit.
+ */
+public class ApplicationChangedEvent {
+
+    public enum ChangeType {
+        SUBMITTED,
+        STATUS_CHANGED
+    }
+
+    private final ChangeType changeType;
+    private final Long applicationId;
+    private final Long jobId;
+    private final Long applicantId;
+    private final Long employerId;
+    private final ApplicationStatus previousStatus;
+    private final ApplicationStatus status;
+    private final LocalDateTime occurredAt;
+
+    public ApplicationChangedEvent(ChangeType changeType, Long applicationId, Long jobId, Long applicantId,
+            Long employerId, ApplicationStatus previousStatus, ApplicationStatus status) {
+        this.changeType = changeType;
+        this.applicationId = applicationId;
+        this.jobId = jobId;
+        this.applicantId = applicantId;
+        this.employerId = employerId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public static ApplicationChangedEvent submitted(Long applicationId, Long jobId, Long applicantId,
+            Long employerId, ApplicationStatus status) {
+        return new ApplicationChangedEvent(ChangeType.SUBMITTED, applicationId, jobId, applicantId,
+                employerId, null, status);
+    }
+
+    public static ApplicationChangedEvent statusChanged(Long applicationId, Long jobId, Long applicantId,
+            Long employerId, ApplicationStatus previousStatus, ApplicationStatus status) {
+        return new ApplicationChangedEvent(ChangeType.STATUS_CHANGED, applicationId, jobId, applicantId,
+                employerId, previousStatus, status);
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public Long getApplicantId() {
+        return applicantId;
+    }
+
+    public Long getEmployerId() {
+        return employerId;
+    }
+
+    /**
+     * Status before the change; null for new applications.
+     */
+    public ApplicationStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,59 @@
+package com.trabahanap.event;
+
+import com.trabahanap.dto.response.JobDTO;
+
+/**
+ * Published by JobService whenever a job posting is created, updated or deleted.
+ * Listeners that keep derived state (search index, caches) should react after commit.
+ */
+public class JobChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final ChangeType changeType;
+    private final Long jobId;
+    private final Long employerId;
+    private final JobDTO job;
+
+    public JobChangedEvent(ChangeType changeType, Long jobId, Long employerId, JobDTO job) {
+        this.changeType = changeType;
+        this.jobId = jobId;
+        this.employerId = employerId;
+        this.job = job;
+    }
+
+    public static JobChangedEvent created(Long employerId, JobDTO job) {
+        return new JobChangedEvent(ChangeType.CREATED, job.getId(), employerId, job);
+    }
+
+    public static JobChangedEvent updated(Long employerId, JobDTO job) {
+        return new JobChangedEvent(ChangeType.UPDATED, job.getId(), employerId, job);
+    }
+
+    public static JobChangedEvent deleted(Long employerId, Long jobId) {
+        return new JobChangedEvent(ChangeType.DELETED, jobId, employerId, null);
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public Long getEmployerId() {
+        return employerId;
+    }
+
+    /**
+     * Snapshot of the job after the change; null for deletions.
+     */
+    public JobDTO getJob() {
+        return job;
+    }
+}
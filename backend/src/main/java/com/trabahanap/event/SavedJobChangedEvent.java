@@ -0,0 +1,32 @@
+package com.trabahanap.event;
+
+/**
+ * Published by SavedJobService when a user saves or removes a job.
+ */
+public class SavedJobChangedEvent {
+
+    private final Long userId;
+    private final Long jobId;
+    private final boolean saved;
+
+    public SavedJobChangedEvent(Long userId, Long jobId, boolean saved) {
+        this.userId = userId;
+        this.jobId = jobId;
+        this.saved = saved;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    /**
+     * True if the job was saved, false if it was removed.
+     */
+    public boolean isSaved() {
+        return saved;
+    }
+}
@@ -0,0 +1,93 @@
+package com.trabahanap.model;
+
+import com.trabahanap.model.JobApplication.ApplicationStatus;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Incrementally maintained application counts for a single job.
+ * Lets employer statistics be read without scanning job_applications.
+ */
+@Entity
+@Table(name = "job_application_counters")
+public class JobApplicationCounter {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "employer_id", nullable = false)
+    private Long employerId;
+
+    @Column(name = "total", nullable = false)
+    private long total;
+
+    @Column(name = "pending", nullable = false)
+    private long pending;
+
+    @Column(name = "reviewed", nullable = false)
+    private long reviewed;
+
+    @Column(name = "accepted", nullable = false)
+    private long accepted;
+
+    @Column(name = "rejected", nullable = false)
+    private long rejected;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    // Constructors
+    public JobApplicationCounter() {}
+
+    public JobApplicationCounter(Long jobId, Long employerId) {
+        this.jobId = jobId;
+        this.employerId = employerId;
+    }
+
+    /**
+     * Adjust the counts for one application entering (delta = 1) or leaving (delta = -1) a status.
+     */
+    public void adjust(ApplicationStatus status, long delta) {
+        switch (status) {
+            case PENDING -> pending += delta;
+            case REVIEWED -> reviewed += delta;
+            case ACCEPTED -> accepted += delta;
+            case REJECTED -> rejected += delta;
+        }
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Record a new application in the given status.
+     */
+    public void addApplication(ApplicationStatus status, long count) {
+        total += count;
+        adjust(status, count);
+    }
+
+    // Getters and Setters
+    public Long getJobId() { return jobId; }
+    public void setJobId(Long jobId) { this.jobId = jobId; }
+
+    public Long getEmployerId() { return employerId; }
+    public void setEmployerId(Long employerId) { this.employerId = employerId; }
+
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+
+    public long getPending() { return pending; }
+    public void setPending(long pending) { this.pending = pending; }
+
+    public long getReviewed() { return reviewed; }
+    public void setReviewed(long reviewed) { this.reviewed = reviewed; }
+
+    public long getAccepted() { return accepted; }
+    public void setAccepted(long accepted) { this.accepted = accepted; }
+
+    public long getRejected() { return rejected; }
+    public void setRejected(long rejected) { this.rejected = rejected; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,80 @@
+package com.trabahanap.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A unique stored file, addressed by the SHA-256 digest of its content.
+ * refCount tracks how many applications and resumes point at the blob and
+ * pendingCount how many uploads have staged it but not yet committed; the
+ * underlying object is deleted when both drop to zero.
+ */
+@Entity
+@Table(name = "stored_blobs")
+public class StoredBlob {
+
+    @Id
+    @Column(name = "digest", length = 64)
+    private String digest;
+
+    @Column(name = "storage_key", nullable = false, length = 500)
+    private String storageKey;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    @Column(name = "pending_count", nullable = false)
+    private long pendingCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // Constructors
+    public StoredBlob() {}
+
+    public StoredBlob(String digest, String storageKey, long sizeBytes, String contentType) {
+        this.digest = digest;
+        this.storageKey = storageKey;
+        this.sizeBytes = sizeBytes;
+        this.contentType = contentType;
+    }
+
+    public long retain() { return ++refCount; }
+    public long release() { return refCount = Math.max(0, refCount - 1); }
+
+    public long reserve() { return ++pendingCount; }
+    public long unreserve() { return pendingCount = Math.max(0, pendingCount - 1); }
+
+    /**
+     * Whether nothing references or is about to reference the blob.
+     */
+    public boolean isUnused() { return refCount == 0 && pendingCount == 0; }
+
+    // Getters and Setters
+    public String getDigest() { return digest; }
+    public void setDigest(String digest) { this.digest = digest; }
+
+    public String getStorageKey() { return storageKey; }
+    public void setStorageKey(String storageKey) { this.storageKey = storageKey; }
+
+    public long getSizeBytes() { return sizeBytes; }
+    public void setSizeBytes(long sizeBytes) { this.sizeBytes = sizeBytes; }
+
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+
+    public long getRefCount() { return refCount; }
+    public void setRefCount(long refCount) { this.refCount = refCount; }
+
+    public long getPendingCount() { return pendingCount; }
+    public void setPendingCount(long pendingCount) { this.pendingCount = pendingCount; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,28 @@
+package com.trabahanap.repository;
+
+import com.trabahanap.model.JobApplicationCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JobApplicationCounterRepository extends JpaRepository<JobApplicationCounter, Long> {
+
+    // Row lock so concurrent applications to the same job don't lose increments
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM JobApplicationCounter c WHERE c.jobId = :jobId")
+    Optional<JobApplicationCounter> findByJobIdForUpdate(@Param("jobId") Long jobId);
+
+    List<JobApplicationCounter> findByEmployerIdOrderByJobIdDesc(Long employerId);
+
+    @Modifying
+    @Query("DELETE FROM JobApplicationCounter c")
+    void deleteAllCounters();
+}
@@ -1,12 +1,22 @@
 package com.trabahanap.repository;
 
+import com.trabahanap.dto.response.ApplicationSummaryDTO;
 import com.trabahanap.model.Job;
 import com.trabahanap.model.JobApplication;
+import com.trabahanap.model.JobApplication.ApplicationStatus;
+import com.trabahanap.util.Constants;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,17 +27,126 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     List<JobApplication> findByApplicantIdWithDetails(@Param("applicantId") Long applicantId);
     
     @Query("SELECT ja FROM JobApplication ja JOIN FETCH ja.job JOIN FETCH ja.applicant WHERE ja.job.postedBy.id = :employerId ORDER BY ja.appliedAt DESC")
-    List<JobApplication> findByEmployerIdWithDetails(@Param("employerId") Long employerId);
+    List<JobApplication> findByEmployerIdWithDetails(@Param("employerId") Long employerId, Limit limit);
+
+    // Keyset page of an employer's inbox (newest first), optionally filtered by job and status.
+    // Projected with only the start of the cover letter text.
+    @Query("SELECT new com.trabahanap.dto.response.ApplicationSummaryDTO(" +
+           "ja.id, j.id, j.title, j.company, a.username, a.email, ja.status, ja.coverLetterPath, " +
+           "SUBSTRING(ja.coverLetterText, 1, " + Constants.COVER_LETTER_SNIPPET_LENGTH + "), " +
+           "ja.resumePath, ja.appliedAt, ja.updatedAt) " +
+           "FROM JobApplication ja JOIN ja.job j JOIN ja.applicant a " +
+           "WHERE j.postedBy.id = :employerId " +
+           "AND (:jobId IS NULL OR j.id = :jobId) " +
+           "AND (:status IS NULL OR ja.status = :status) " +
+           "AND ja.appliedAt <= :cursorAppliedAt " +
+           "AND (ja.appliedAt < :cursorAppliedAt OR (ja.appliedAt = :cursorAppliedAt AND ja.id < :cursorId)) " +
+           "ORDER BY ja.appliedAt DESC, ja.id DESC")
+    List<ApplicationSummaryDTO> findEmployerInboxPage(@Param("employerId") Long employerId,
+                                                      @Param("jobId") Long jobId,
+                                                      @Param("status") ApplicationStatus status,
+                                                      @Param("cursorAppliedAt") LocalDateTime cursorAppliedAt,
+                                                      @Param("cursorId") Long cursorId,
+                                                      Pageable pageable);
     
+    // One application with its job and applicant, for ownership checks and the DTO
+    @Query("SELECT ja FROM JobApplication ja JOIN FETCH ja.job JOIN FETCH ja.applicant WHERE ja.id = :id")
+    Optional<JobApplication> findByIdWithDetails(@Param("id") Long id);
+
+    // Owners and stored file paths of one application (file view/download)
+    @Query("SELECT ja.applicant.id AS applicantId, j.postedBy.id AS employerId, " +
+           "ja.coverLetterPath AS coverLetterPath, ja.resumePath AS resumePath " +
+           "FROM JobApplication ja JOIN ja.job j WHERE ja.id = :id")
+    Optional<ApplicationFiles> findFilesById(@Param("id") Long id);
+
     @Query("SELECT ja FROM JobApplication ja WHERE ja.job.id = :jobId AND ja.applicant.id = :applicantId")
     Optional<JobApplication> findByJobIdAndApplicantId(@Param("jobId") Long jobId, @Param("applicantId") Long applicantId);
     
     boolean existsByJobIdAndApplicantId(Long jobId, Long applicantId);
 
+    // Ids of every job the user has applied to
+    @Query("SELECT ja.job.id FROM JobApplication ja WHERE ja.applicant.id = :applicantId")
+    List<Long> findJobIdsByApplicantId(@Param("applicantId") Long applicantId);
+
+    // Which of the given jobs the user has applied to
+    @Query("SELECT ja.job.id FROM JobApplication ja WHERE ja.applicant.id = :applicantId AND ja.job.id IN :jobIds")
+    List<Long> findJobIdsByApplicantIdAndJobIdIn(@Param("applicantId") Long applicantId,
+                                                 @Param("jobIds") Collection<Long> jobIds);
+
+    // Job, employer and current status for a set of applications (ownership check for bulk updates)
+    @Query("SELECT ja.id AS id, j.id AS jobId, ja.applicant.id AS applicantId, j.postedBy.id AS employerId, " +
+           "ja.status AS status " +
+           "FROM JobApplication ja JOIN ja.job j WHERE ja.id IN :ids")
+    List<ApplicationOwnership> findOwnershipByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Row-lock applications until the transaction ends, so their status cannot change
+    // between reading it and updating it (only job_applications rows are locked)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ja.id FROM JobApplication ja WHERE ja.id IN :ids")
+    List<Long> lockByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Set the status of several applications in one statement
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobApplication ja SET ja.status = :status, ja.updatedAt = :updatedAt WHERE ja.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") ApplicationStatus status,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Whether any application still references a stored resume file
+    boolean existsByResumePath(String resumePath);
+
     long countByJob(Job job);
 
     long countByJobId(Long jobId);
 
     @Query("SELECT COUNT(ja) FROM JobApplication ja WHERE ja.job.id = :jobId")
     long countApplicationsByJobId(@Param("jobId") Long jobId);
+
+    // Application counts per job and status for one employer, in a single grouped query
+    @Query("SELECT j.id AS jobId, j.postedBy.id AS employerId, ja.status AS status, COUNT(ja) AS total " +
+           "FROM JobApplication ja JOIN ja.job j WHERE j.postedBy.id = :employerId " +
+           "GROUP BY j.id, j.postedBy.id, ja.status")
+    List<JobStatusCount> countByEmployerGroupedByJobAndStatus(@Param("employerId") Long employerId);
+
+    // Application counts per status for one job (seeds a missing counter row)
+    @Query("SELECT j.id AS jobId, j.postedBy.id AS employerId, ja.status AS status, COUNT(ja) AS total " +
+           "FROM JobApplication ja JOIN ja.job j WHERE j.id = :jobId " +
+           "GROUP BY j.id, j.postedBy.id, ja.status")
+    List<JobStatusCount> countByJobGroupedByStatus(@Param("jobId") Long jobId);
+
+    // Application counts per job and status across all jobs (used to rebuild counters)
+    @Query("SELECT j.id AS jobId, j.postedBy.id AS employerId, ja.status AS status, COUNT(ja) AS total " +
+           "FROM JobApplication ja JOIN ja.job j GROUP BY j.id, j.postedBy.id, ja.status")
+    List<JobStatusCount> countAllGroupedByJobAndStatus();
+
+    /**
+     * Projection for grouped application counts.
+     */
+    interface JobStatusCount {
+        Long getJobId();
+        Long getEmployerId();
+        ApplicationStatus getStatus();
+        long getTotal();
+    }
+
+    /**
+     * Projection for an application's job, employer and status.
+     */
+    interface ApplicationOwnership {
+        Long getId();
+        Long getJobId();
+        Long getApplicantId();
+        Long getEmployerId();
+        ApplicationStatus getStatus();
+    }
+
+    /**
+     * Projection for an application's owners and stored file paths.
+     */
+    interface ApplicationFiles {
+        Long getApplicantId();
+        Long getEmployerId();
+        String getCoverLetterPath();
+        String getResumePath();
+    }
 }
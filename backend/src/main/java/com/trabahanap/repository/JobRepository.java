@@ -1,38 +1,114 @@
 package com.trabahanap.repository;
 
+import com.trabahanap.dto.response.JobSummaryDTO;
 import com.trabahanap.model.Job;
 import com.trabahanap.model.User;
+import com.trabahanap.util.Constants;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
     
-    // Find jobs by employer ordered by creation date (newest first)
-    List<Job> findByPostedByOrderByCreatedAtDesc(User postedBy);
-    
-    // ✅ Add this method for recent jobs (top 5)
-    List<Job> findTop3ByPostedByOrderByCreatedAtDesc(User postedBy);
-    
-    // Alternative if postedBy field name is different in your Job model
-    // List<Job> findByUserOrderByCreatedAtDesc(User user);
-    
-    // Additional useful queries for job management
-    @Query("SELECT j FROM Job j WHERE j.postedBy.id = :employerId ORDER BY j.createdAt DESC")
-    List<Job> findJobsByEmployerId(@Param("employerId") Long employerId);
-    
-    // ✅ Add query for recent jobs as alternative
-    @Query("SELECT j FROM Job j WHERE j.postedBy.id = :employerId ORDER BY j.createdAt DESC")
-    List<Job> findTop3JobsByEmployerId(@Param("employerId") Long employerId);
-    
+    // Job list rows (description snippet, no requirements), newest first
+    @Query("SELECT new com.trabahanap.dto.response.JobSummaryDTO(" +
+           "j.id, j.title, j.company, j.location, j.jobType, " +
+           "SUBSTRING(j.description, 1, " + Constants.JOB_SNIPPET_LENGTH + "), " +
+           "j.salary, p.username, j.createdAt) " +
+           "FROM Job j JOIN j.postedBy p " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobSummaryDTO> findAllSummaries();
+
+    // Job list rows for one employer, newest first.
+    // Pass Limit.of(n) for dashboard widgets (top-N in SQL) or Limit.unlimited() for the full list.
+    @Query("SELECT new com.trabahanap.dto.response.JobSummaryDTO(" +
+           "j.id, j.title, j.company, j.location, j.jobType, " +
+           "SUBSTRING(j.description, 1, " + Constants.JOB_SNIPPET_LENGTH + "), " +
+           "j.salary, p.username, j.createdAt) " +
+           "FROM Job j JOIN j.postedBy p " +
+           "WHERE p.id = :employerId " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobSummaryDTO> findSummariesByEmployerId(@Param("employerId") Long employerId, Limit limit);
+
+    // Single job with its poster, for the detail view
+    @Query("SELECT j FROM Job j JOIN FETCH j.postedBy WHERE j.id = :id")
+    Optional<Job> findByIdWithPostedBy(@Param("id") Long id);
+
+    // Keyset-paginated public job feed (newest first, list rows), optionally filtered. The redundant
+    // createdAt <= cursor bound lets the database range-scan the index instead of the table; the
+    // LEFT JOIN (posted_by is NOT NULL, so same rows) keeps jobs as the driving table
+    @Query("SELECT new com.trabahanap.dto.response.JobSummaryDTO(" +
+           "j.id, j.title, j.company, j.location, j.jobType, " +
+           "SUBSTRING(j.description, 1, " + Constants.JOB_SNIPPET_LENGTH + "), " +
+           "j.salary, p.username, j.createdAt) " +
+           "FROM Job j LEFT JOIN j.postedBy p " +
+           "WHERE (:locationPattern IS NULL OR LOWER(j.location) LIKE :locationPattern) " +
+           "AND (:jobType IS NULL OR j.jobType = :jobType) " +
+           "AND (:minSalary IS NULL OR j.salary >= :minSalary) " +
+           "AND (:maxSalary IS NULL OR j.salary <= :maxSalary) " +
+           "AND j.createdAt <= :cursorCreatedAt " +
+           "AND (j.createdAt < :cursorCreatedAt OR (j.createdAt = :cursorCreatedAt AND j.id < :cursorId)) " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobSummaryDTO> findJobFeedPage(@Param("locationPattern") String locationPattern,
+                                        @Param("jobType") String jobType,
+                                        @Param("minSalary") Double minSalary,
+                                        @Param("maxSalary") Double maxSalary,
+                                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
+
+    // Full jobs in feed order, keyset-paginated, for building the search index
+    @Query("SELECT j FROM Job j JOIN FETCH j.postedBy " +
+           "WHERE j.createdAt <= :cursorCreatedAt " +
+           "AND (j.createdAt < :cursorCreatedAt OR (j.createdAt = :cursorCreatedAt AND j.id < :cursorId)) " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<Job> findFullTextPage(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                               @Param("cursorId") Long cursorId,
+                               Pageable pageable);
+
     // Count jobs by employer
     long countByPostedBy(User postedBy);
+
+    // Total and closed job counts for an employer in one query
+    @Query("SELECT COUNT(j) AS total, COALESCE(SUM(CASE WHEN j.jobType = 'CLOSED' THEN 1 ELSE 0 END), 0) AS closed " +
+           "FROM Job j WHERE j.postedBy.id = :employerId")
+    EmployerJobCounts countJobsByEmployerId(@Param("employerId") Long employerId);
+
+    // Job ids with their employer, used to seed per-job counters
+    @Query("SELECT j.id AS jobId, j.postedBy.id AS employerId FROM Job j")
+    List<JobOwner> findAllJobOwners();
+
+    // Row lock on a job, so writers creating its missing counter row take turns
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM Job j WHERE j.id = :jobId")
+    Optional<Job> findByIdForUpdate(@Param("jobId") Long jobId);
     
     // Find active jobs by employer (if you add active field later)
     // List<Job> findByPostedByAndActiveOrderByCreatedAtDesc(User postedBy, Boolean active);
 
+    /**
+     * Projection for per-employer job counts.
+     */
+    interface EmployerJobCounts {
+        long getTotal();
+        long getClosed();
+    }
+
+    /**
+     * Projection for a job id and the employer that posted it.
+     */
+    interface JobOwner {
+        Long getJobId();
+        Long getEmployerId();
+    }
 }
@@ -1,19 +1,41 @@
 package com.trabahanap.repository;
 
+import com.trabahanap.dto.response.SavedJobDTO;
 import com.trabahanap.model.SavedJob;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SavedJobRepository extends JpaRepository<SavedJob, Long> {
     
-    @Query("SELECT sj FROM SavedJob sj JOIN FETCH sj.job j JOIN FETCH j.postedBy WHERE sj.user.id = :userId ORDER BY sj.savedAt DESC")
-    List<SavedJob> findByUserIdWithJobDetails(@Param("userId") Long userId);
+    // Saved-job list rows projected straight into DTOs (no entity hydration)
+    @Query("SELECT new com.trabahanap.dto.response.SavedJobDTO("
+            + "sj.id, sj.savedAt, j.id, j.title, j.company, j.location, j.jobType, j.salary, p.username, j.createdAt) "
+            + "FROM SavedJob sj JOIN sj.job j LEFT JOIN j.postedBy p "
+            + "WHERE sj.user.id = :userId "
+            + "ORDER BY sj.savedAt DESC, sj.id DESC")
+    List<SavedJobDTO> findSummariesByUserId(@Param("userId") Long userId);
+
+    // Keyset page of saved-job rows, newest first, strictly after the (savedAt, id) cursor
+    @Query("SELECT new com.trabahanap.dto.response.SavedJobDTO("
+            + "sj.id, sj.savedAt, j.id, j.title, j.company, j.location, j.jobType, j.salary, p.username, j.createdAt) "
+            + "FROM SavedJob sj JOIN sj.job j LEFT JOIN j.postedBy p "
+            + "WHERE sj.user.id = :userId "
+            + "AND sj.savedAt <= :cursorSavedAt "
+            + "AND (sj.savedAt < :cursorSavedAt OR (sj.savedAt = :cursorSavedAt AND sj.id < :cursorId)) "
+            + "ORDER BY sj.savedAt DESC, sj.id DESC")
+    List<SavedJobDTO> findSummaryPageByUserId(@Param("userId") Long userId,
+                                              @Param("cursorSavedAt") LocalDateTime cursorSavedAt,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
     
     Optional<SavedJob> findByUserIdAndJobId(Long userId, Long jobId);
     
@@ -22,4 +44,13 @@ public interface SavedJobRepository extends JpaRepository<SavedJob, Long> {
     void deleteByUserIdAndJobId(Long userId, Long jobId);
     
     long countByUserId(Long userId);
+
+    // Ids of every job the user has saved
+    @Query("SELECT sj.job.id FROM SavedJob sj WHERE sj.user.id = :userId")
+    List<Long> findJobIdsByUserId(@Param("userId") Long userId);
+
+    // Which of the given jobs the user has saved
+    @Query("SELECT sj.job.id FROM SavedJob sj WHERE sj.user.id = :userId AND sj.job.id IN :jobIds")
+    List<Long> findJobIdsByUserIdAndJobIdIn(@Param("userId") Long userId,
+                                            @Param("jobIds") Collection<Long> jobIds);
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.trabahanap.repository;
+
+import com.trabahanap.model.StoredBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, String> {
+
+    // Row lock so concurrent uploads/deletes of the same content keep refCount consistent
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM StoredBlob b WHERE b.digest = :digest")
+    Optional<StoredBlob> findByDigestForUpdate(@Param("digest") String digest);
+}
@@ -0,0 +1,72 @@
+package com.trabahanap.security;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Bounded cache of authenticated principals keyed by username.
+ * Lets JwtAuthenticationFilter authenticate requests without loading the
+ * user and roles from the database each time. Entries expire after a TTL
+ * and are evicted whenever the user's profile or roles change.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final Cache<String, UserPrincipal> cache;
+
+    public UserPrincipalCache(
+            @Value("${app.security.principal-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${app.security.principal-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Get the cached principal for a username, loading it on a miss.
+     */
+    public UserPrincipal get(String username, Function<String, UserPrincipal> loader) {
+        return cache.get(username, loader);
+    }
+
+    /**
+     * Evict a user's principal. When called inside a transaction the entry is
+     * evicted again after commit, so a concurrent request cannot re-cache the
+     * pre-update state.
+     */
+    public void evictUser(Long userId) {
+        evictNow(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Evict a principal by username.
+     */
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private void evictNow(Long userId) {
+        cache.asMap().values().removeIf(principal -> userId.equals(principal.getId()));
+    }
+}
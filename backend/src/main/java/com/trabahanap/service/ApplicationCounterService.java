@@ -0,0 +1,202 @@
+package com.trabahanap.service;
+
+import com.trabahanap.dto.response.JobApplicationStatsDTO;
+import com.trabahanap.model.JobApplication.ApplicationStatus;
+import com.trabahanap.model.JobApplicationCounter;
+import com.trabahanap.repository.JobApplicationCounterRepository;
+import com.trabahanap.repository.JobApplicationRepository;
+import com.trabahanap.repository.JobApplicationRepository.JobStatusCount;
+import com.trabahanap.repository.JobRepository;
+import com.trabahanap.repository.JobRepository.JobOwner;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Maintains the optional per-job application counter table.
+ * When app.stats.counters.enabled=true the counters are kept current from
+ * ApplicationService writes, so employer statistics are read from one small
+ * row per job instead of aggregating job_applications on every request.
+ *
+ * The table is built from job_applications at startup only when it is empty,
+ * or when app.stats.counters.rebuild-on-startup=true asks for it (after
+ * running with counters disabled). A rebuild deletes and rewrites every row,
+ * so run it with no other instance writing. A job without a row (posted while
+ * counters were disabled) gets one on its next write, counted in the writer's
+ * own transaction.
+ */
+@Service
+public class ApplicationCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationCounterService.class);
+
+    @Value("${app.stats.counters.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.stats.counters.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    @Autowired
+    private JobApplicationCounterRepository counterRepository;
+
+    @Autowired
+    private JobApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Build the counters at startup if the table is empty or a rebuild was requested.
+     * Not done unconditionally: during a rolling deploy the other instances keep
+     * writing, and a rebuild would race with them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildCountersOnStartup() {
+        if (!enabled || (!rebuildOnStartup && counterRepository.count() > 0)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> rebuildCounters());
+        } catch (DataIntegrityViolationException e) {
+            // Another instance starting at the same time built them first
+            logger.info("Application counters were built by another instance");
+        }
+    }
+
+    /**
+     * Recompute all counters from job_applications.
+     */
+    @Transactional
+    public void rebuildCounters() {
+        counterRepository.deleteAllCounters();
+
+        Map<Long, JobApplicationCounter> counters = new HashMap<>();
+        for (JobOwner owner : jobRepository.findAllJobOwners()) {
+            counters.put(owner.getJobId(), new JobApplicationCounter(owner.getJobId(), owner.getEmployerId()));
+        }
+        for (JobStatusCount row : applicationRepository.countAllGroupedByJobAndStatus()) {
+            counters.computeIfAbsent(row.getJobId(), id -> new JobApplicationCounter(id, row.getEmployerId()))
+                    .addApplication(row.getStatus(), row.getTotal());
+        }
+        counterRepository.saveAll(counters.values());
+        logger.info("Rebuilt application counters for {} jobs", counters.size());
+    }
+
+    /**
+     * Create the counter row for a newly posted job.
+     */
+    @Transactional
+    public void jobCreated(Long jobId, Long employerId) {
+        if (enabled) {
+            counterRepository.save(new JobApplicationCounter(jobId, employerId));
+        }
+    }
+
+    /**
+     * Drop the counter row of a deleted job.
+     */
+    @Transactional
+    public void jobDeleted(Long jobId) {
+        if (enabled) {
+            counterRepository.deleteById(jobId);
+        }
+    }
+
+    /**
+     * Count a new application for a job.
+     */
+    @Transactional
+    public void applicationSubmitted(Long jobId, Long employerId, ApplicationStatus status) {
+        if (!enabled) {
+            return;
+        }
+        updateCounter(jobId, employerId, counter -> counter.addApplication(status, 1));
+    }
+
+    /**
+     * Move one application of a job from one status to another.
+     */
+    @Transactional
+    public void statusChanged(Long jobId, Long employerId, ApplicationStatus from, ApplicationStatus to) {
+        statusChanged(jobId, employerId, from, to, 1);
+    }
+
+    /**
+     * Move several applications of a job from one status to another.
+     */
+    @Transactional
+    public void statusChanged(Long jobId, Long employerId, ApplicationStatus from, ApplicationStatus to,
+            long count) {
+        if (!enabled || from == to || count == 0) {
+            return;
+        }
+        updateCounter(jobId, employerId, counter -> {
+            counter.adjust(from, -count);
+            counter.adjust(to, count);
+        });
+    }
+
+    /**
+     * Per-job application counts for an employer's jobs that have applications, newest job first.
+     */
+    @Transactional(readOnly = true)
+    public List<JobApplicationStatsDTO> getJobStats(Long employerId) {
+        return counterRepository.findByEmployerIdOrderByJobIdDesc(employerId).stream()
+                .filter(counter -> counter.getTotal() > 0)
+                .map(counter -> new JobApplicationStatsDTO(
+                        counter.getJobId(), counter.getTotal(), counter.getPending(),
+                        counter.getReviewed(), counter.getAccepted(), counter.getRejected()))
+                .toList();
+    }
+
+    /**
+     * Apply the caller's change to the job's locked counter row. A missing row is
+     * created in the caller's transaction by counting the job's applications,
+     * which already include the caller's change, so the change is not applied again.
+     */
+    private void updateCounter(Long jobId, Long employerId, Consumer<JobApplicationCounter> change) {
+        Optional<JobApplicationCounter> counter = counterRepository.findByJobIdForUpdate(jobId);
+        if (counter.isEmpty()) {
+            // Writers of the same job wait here; the first creates the row, the rest then find it
+            jobRepository.findByIdForUpdate(jobId);
+            counter = counterRepository.findByJobIdForUpdate(jobId);
+        }
+        if (counter.isPresent()) {
+            change.accept(counter.get());
+            counterRepository.save(counter.get());
+            return;
+        }
+        JobApplicationCounter created = new JobApplicationCounter(jobId, employerId);
+        for (JobStatusCount row : applicationRepository.countByJobGroupedByStatus(jobId)) {
+            created.addApplication(row.getStatus(), row.getTotal());
+        }
+        entityManager.persist(created);
+    }
+}
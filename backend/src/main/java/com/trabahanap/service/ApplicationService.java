@@ -1,6 +1,10 @@
 package com.trabahanap.service;
 
 import com.trabahanap.dto.response.ApplicationDTO;
+import com.trabahanap.dto.response.ApplicationSummaryDTO;
+import com.trabahanap.dto.response.BulkStatusUpdateDTO;
+import com.trabahanap.dto.response.CursorPageDTO;
+import com.trabahanap.event.ApplicationChangedEvent;
 import com.trabahanap.exception.BadRequestException;
 import com.trabahanap.exception.DuplicateResourceException;
 import com.trabahanap.exception.ForbiddenException;
@@ -10,22 +14,41 @@ import com.trabahanap.model.Job;
 import com.trabahanap.model.JobApplication;
 import com.trabahanap.model.JobApplication.ApplicationStatus;
 import com.trabahanap.model.User;
+import com.trabahanap.model.UserResume;
 import com.trabahanap.repository.JobApplicationRepository;
+import com.trabahanap.repository.JobApplicationRepository.ApplicationOwnership;
 import com.trabahanap.repository.JobRepository;
 import com.trabahanap.repository.UserRepository;
+import com.trabahanap.repository.UserResumeRepository;
+import com.trabahanap.util.Constants;
+import com.trabahanap.util.KeysetCursor;
+
+import io.micrometer.core.annotation.Timed;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Service layer for job application operations.
  */
 @Service
+@Timed("trabahanap.service")
 public class ApplicationService {
 
     @Autowired
@@ -37,15 +60,75 @@ public class ApplicationService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserResumeRepository userResumeRepository;
+
     @Autowired
     private FileStorageService fileStorageService;
 
+    @Autowired
+    private UploadPipeline uploadPipeline;
+
+    @Autowired
+    private ApplicationCounterService applicationCounterService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Apply for a job.
+     * The resume is either uploaded (resumePdf) or referenced from the
+     * applicant's saved resumes (resumeId) without copying the file.
+     * Uploads are staged in parallel before the transaction opens, and the
+     * application row is only committed once they are in storage.
      */
-    @Transactional
     public ApplicationDTO applyForJob(Long userId, Long jobId, String coverLetterText,
-            MultipartFile coverLetterPdf, MultipartFile resumePdf) {
+            MultipartFile coverLetterPdf, MultipartFile resumePdf, Long resumeId) {
+        boolean hasResumeUpload = resumePdf != null && !resumePdf.isEmpty();
+        if (hasResumeUpload && resumeId != null) {
+            throw new BadRequestException("Provide either resumePdf or resumeId, not both");
+        }
+
+        // Reject unknown jobs and duplicates before uploading anything. Open-in-view
+        // is off for this endpoint (OpenInViewConfig), so each check query returns
+        // its connection right away instead of holding it through the uploads
+        checkCanApply(userId, jobId);
+        List<StagedFile> staged = uploadPipeline.stageAll(coverLetterPdf, resumePdf);
+        StagedFile stagedCoverLetter = staged.get(0);
+        StagedFile stagedResume = staged.get(1);
+
+        try {
+            return transactionTemplate.execute(status -> createApplication(
+                    userId, jobId, coverLetterText, stagedCoverLetter, stagedResume, resumeId));
+        } catch (RuntimeException e) {
+            // The only cleanup: the staged files were not referenced (the transaction
+            // failed or rolled back), so drop their reservations
+            uploadPipeline.discardAll(staged);
+            throw e;
+        }
+    }
+
+    /**
+     * Fail fast if the job does not exist or the user already applied.
+     * createApplication repeats the checks inside its transaction.
+     */
+    private void checkCanApply(Long userId, Long jobId) {
+        if (!jobRepository.existsById(jobId)) {
+            throw new ResourceNotFoundException("Job", "id", jobId);
+        }
+        if (applicationRepository.existsByJobIdAndApplicantId(jobId, userId)) {
+            throw new DuplicateResourceException("You have already applied for this job");
+        }
+    }
+
+    /**
+     * Create the application row and reference its staged files (runs in a transaction).
+     */
+    private ApplicationDTO createApplication(Long userId, Long jobId, String coverLetterText,
+            StagedFile stagedCoverLetter, StagedFile stagedResume, Long resumeId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
@@ -65,18 +148,24 @@ public class ApplicationService {
         application.setStatus(ApplicationStatus.PENDING);
         application.setAppliedAt(LocalDateTime.now());
 
-        // Handle file uploads
-        if (coverLetterPdf != null && !coverLetterPdf.isEmpty()) {
-            String coverLetterPath = fileStorageService.storeFile(coverLetterPdf, "cover-letters");
-            application.setCoverLetterPath(coverLetterPath);
+        // Reference the staged uploads
+        if (stagedCoverLetter != null) {
+            application.setCoverLetterPath(fileStorageService.commitStagedFile(stagedCoverLetter));
         }
 
-        if (resumePdf != null && !resumePdf.isEmpty()) {
-            String resumePath = fileStorageService.storeFile(resumePdf, "resumes");
-            application.setResumePath(resumePath);
+        if (stagedResume != null) {
+            application.setResumePath(fileStorageService.commitStagedFile(stagedResume));
+        } else if (resumeId != null) {
+            UserResume resume = userResumeRepository.findByIdAndUserId(resumeId, userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Resume", "id", resumeId));
+            fileStorageService.retainFile(resume.getFilePath());
+            application.setResumePath(resume.getFilePath());
         }
 
         JobApplication savedApplication = applicationRepository.save(application);
+        applicationCounterService.applicationSubmitted(jobId, job.getPostedBy().getId(), savedApplication.getStatus());
+        eventPublisher.publishEvent(ApplicationChangedEvent.submitted(
+                savedApplication.getId(), jobId, userId, job.getPostedBy().getId(), savedApplication.getStatus()));
         return ApplicationMapper.toDTO(savedApplication);
     }
 
@@ -97,20 +186,61 @@ public class ApplicationService {
     }
 
     /**
-     * Get applications for employer's jobs.
+     * Get all applications for employer's jobs, newest first. Employers with more
+     * than Constants.MAX_PAGE_SIZE applications get a BadRequestException instead
+     * of a truncated list and must page with getEmployerInbox.
+     *
+     * @deprecated use getEmployerInbox
      */
+    @Deprecated
     @Transactional(readOnly = true)
     public List<ApplicationDTO> getEmployerApplications(Long employerId) {
-        List<JobApplication> applications = applicationRepository.findByEmployerIdWithDetails(employerId);
+        List<JobApplication> applications = applicationRepository.findByEmployerIdWithDetails(
+                employerId, Limit.of(Constants.MAX_PAGE_SIZE + 1));
+        if (applications.size() > Constants.MAX_PAGE_SIZE) {
+            throw new BadRequestException("More than " + Constants.MAX_PAGE_SIZE
+                    + " applications; use /api/applications/employer/inbox to page through them");
+        }
         return ApplicationMapper.toDTOList(applications);
     }
 
+    /**
+     * Get one keyset page of an employer's applications, newest first.
+     * jobId and status are optional filters; the page size is capped at Constants.MAX_PAGE_SIZE.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ApplicationSummaryDTO> getEmployerInbox(Long employerId, Long jobId, String status,
+            String cursor, Integer size) {
+        int pageSize = size == null ? Constants.DEFAULT_PAGE_SIZE
+                : Math.max(1, Math.min(size, Constants.MAX_PAGE_SIZE));
+        KeysetCursor position = KeysetCursor.decodeOrFirst(cursor);
+        ApplicationStatus statusFilter = (status == null || status.isBlank()) ? null : parseStatus(status);
+
+        // Fetch one extra row to know whether another page exists
+        List<ApplicationSummaryDTO> rows = applicationRepository.findEmployerInboxPage(
+                employerId, jobId, statusFilter, position.getTimestamp(), position.getId(),
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ApplicationSummaryDTO> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            ApplicationSummaryDTO last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.appliedAt(), last.id()).encode();
+        }
+
+        return new CursorPageDTO<>(page, nextCursor, hasMore);
+    }
+
     /**
      * Update application status (employer only).
      */
     @Transactional
     public ApplicationDTO updateApplicationStatus(Long employerId, Long applicationId, String newStatus) {
-        JobApplication application = applicationRepository.findById(applicationId)
+        // Locked first so a concurrent update cannot move the counters for the same transition twice
+        applicationRepository.lockByIdIn(List.of(applicationId));
+        JobApplication application = applicationRepository.findByIdWithDetails(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application", "id", applicationId));
 
         // Verify employer owns the job
@@ -119,25 +249,117 @@ public class ApplicationService {
         }
 
         // Parse and set status
-        try {
-            ApplicationStatus status = ApplicationStatus.valueOf(newStatus.toUpperCase());
-            application.setStatus(status);
-            application.setUpdatedAt(LocalDateTime.now());
-        } catch (IllegalArgumentException e) {
-            throw new BadRequestException("Invalid status: " + newStatus);
-        }
+        ApplicationStatus previousStatus = application.getStatus();
+        ApplicationStatus status = parseStatus(newStatus);
+        application.setStatus(status);
+        application.setUpdatedAt(LocalDateTime.now());
 
         JobApplication updatedApplication = applicationRepository.save(application);
+        applicationCounterService.statusChanged(
+                application.getJob().getId(), employerId, previousStatus, status);
+        if (previousStatus != status) {
+            eventPublisher.publishEvent(ApplicationChangedEvent.statusChanged(applicationId,
+                    application.getJob().getId(), application.getApplicant().getId(), employerId,
+                    previousStatus, status));
+        }
         return ApplicationMapper.toDTO(updatedApplication);
     }
 
+    /**
+     * Set the status of several applications (employer only).
+     * The rows are locked, ownership and current status are read with one
+     * query and the change is applied with a single bulk UPDATE; ids that are
+     * unknown, owned by another employer or already in the target status are
+     * reported and left untouched.
+     */
+    @Transactional
+    public BulkStatusUpdateDTO bulkUpdateApplicationStatus(Long employerId, List<Long> applicationIds,
+            String newStatus) {
+        ApplicationStatus status = parseStatus(newStatus);
+        Set<Long> ids = new LinkedHashSet<>(applicationIds);
+        ids.remove(null);
+        if (ids.size() > Constants.MAX_BULK_UPDATE_SIZE) {
+            throw new BadRequestException("At most " + Constants.MAX_BULK_UPDATE_SIZE
+                    + " applications can be updated at once");
+        }
+
+        Map<Long, ApplicationOwnership> rows = new HashMap<>();
+        if (!ids.isEmpty()) {
+            // Held until commit, so the statuses read below are the ones the UPDATE replaces
+            // and the counters and events use the right previous status
+            applicationRepository.lockByIdIn(ids);
+            for (ApplicationOwnership row : applicationRepository.findOwnershipByIdIn(ids)) {
+                rows.put(row.getId(), row);
+            }
+        }
+
+        List<BulkStatusUpdateDTO.Item> results = new ArrayList<>(ids.size());
+        List<ApplicationOwnership> toUpdate = new ArrayList<>();
+        // (jobId, previous status) -> number of applications moved, for the counters
+        Map<Long, Map<ApplicationStatus, Long>> moved = new HashMap<>();
+        for (Long id : ids) {
+            ApplicationOwnership row = rows.get(id);
+            BulkStatusUpdateDTO.Outcome outcome;
+            if (row == null) {
+                outcome = BulkStatusUpdateDTO.Outcome.NOT_FOUND;
+            } else if (!row.getEmployerId().equals(employerId)) {
+                outcome = BulkStatusUpdateDTO.Outcome.FORBIDDEN;
+            } else if (row.getStatus() == status) {
+                outcome = BulkStatusUpdateDTO.Outcome.UNCHANGED;
+            } else {
+                outcome = BulkStatusUpdateDTO.Outcome.UPDATED;
+                toUpdate.add(row);
+                moved.computeIfAbsent(row.getJobId(), jobId -> new EnumMap<>(ApplicationStatus.class))
+                        .merge(row.getStatus(), 1L, Long::sum);
+            }
+            results.add(new BulkStatusUpdateDTO.Item(id, outcome));
+        }
+
+        int updated = 0;
+        if (!toUpdate.isEmpty()) {
+            updated = applicationRepository.updateStatusByIdIn(
+                    toUpdate.stream().map(ApplicationOwnership::getId).toList(), status, LocalDateTime.now());
+            moved.forEach((jobId, byStatus) -> byStatus.forEach((previousStatus, count) ->
+                    applicationCounterService.statusChanged(jobId, employerId, previousStatus, status, count)));
+            for (ApplicationOwnership row : toUpdate) {
+                eventPublisher.publishEvent(ApplicationChangedEvent.statusChanged(row.getId(), row.getJobId(),
+                        row.getApplicantId(), employerId, row.getStatus(), status));
+            }
+        }
+
+        return new BulkStatusUpdateDTO(status.toString(), updated, results);
+    }
+
     /**
      * Get application by ID.
      */
     @Transactional(readOnly = true)
     public ApplicationDTO getApplicationById(Long applicationId) {
-        JobApplication application = applicationRepository.findById(applicationId)
+        JobApplication application = applicationRepository.findByIdWithDetails(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application", "id", applicationId));
         return ApplicationMapper.toDTO(application);
     }
+
+    /**
+     * Get an application (including cover letter text) for its applicant or the job's employer.
+     */
+    @Transactional(readOnly = true)
+    public ApplicationDTO getApplicationForUser(Long userId, Long applicationId) {
+        JobApplication application = applicationRepository.findByIdWithDetails(applicationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Application", "id", applicationId));
+
+        if (!application.getApplicant().getId().equals(userId)
+                && !application.getJob().getPostedBy().getId().equals(userId)) {
+            throw new ForbiddenException("You can only view your own applications or applications to your jobs");
+        }
+        return ApplicationMapper.toDTO(application);
+    }
+
+    private static ApplicationStatus parseStatus(String status) {
+        try {
+            return ApplicationStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid status: " + status);
+        }
+    }
 }
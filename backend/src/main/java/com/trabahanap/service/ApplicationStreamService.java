@@ -0,0 +1,224 @@
+package com.trabahanap.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.trabahanap.dto.response.ApplicationUpdateDTO;
+import com.trabahanap.event.ApplicationChangedEvent;
+import com.trabahanap.util.TaskExecutors;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Per-user registry of Server-Sent Event subscriptions for application updates.
+ * Applicants and employers receive an "application" event after an application
+ * is submitted or its status changes, so clients no longer need to poll.
+ *
+ * Each subscription has a bounded buffer drained on a small dedicated pool, so a
+ * slow client never blocks the request that published the change. A client that
+ * falls a full buffer behind is disconnected and is expected to reconnect and
+ * reload. Heartbeat comments keep idle connections open through proxies.
+ */
+@Service
+public class ApplicationStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationStreamService.class);
+
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final AtomicLong subscriptionIds = new AtomicLong();
+    private final AsyncTaskExecutor executor;
+
+    private final long timeoutMs;
+    private final int bufferSize;
+    private final int maxSubscriptionsPerUser;
+
+    public ApplicationStreamService(Environment environment,
+            @Value("${app.sse.timeout-ms:1800000}") long timeoutMs,
+            @Value("${app.sse.buffer-size:32}") int bufferSize,
+            @Value("${app.sse.max-subscriptions-per-user:5}") int maxSubscriptionsPerUser,
+            @Value("${app.sse.executor.pool-size:2}") int poolSize) {
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+        this.maxSubscriptionsPerUser = maxSubscriptionsPerUser;
+
+        // Owned here rather than exposed as a bean, like UploadPipeline's pool
+        this.executor = TaskExecutors.create(environment, "sse-", poolSize, 10_000,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Open a stream for a user. The oldest stream is closed when the user
+     * exceeds the per-user subscription limit.
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscription subscription = new Subscription(userId, emitter);
+
+        Set<Subscription> userSubscriptions =
+                subscriptions.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet());
+        userSubscriptions.add(subscription);
+        if (userSubscriptions.size() > maxSubscriptionsPerUser) {
+            userSubscriptions.stream()
+                    .min(Comparator.comparingLong(s -> s.id))
+                    .ifPresent(Subscription::close);
+        }
+
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> remove(subscription));
+
+        subscription.offer(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        ApplicationUpdateDTO update = ApplicationUpdateDTO.fromEvent(event);
+        send(event.getApplicantId(), update);
+        if (event.getEmployerId() != null && !event.getEmployerId().equals(event.getApplicantId())) {
+            send(event.getEmployerId(), update);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Set<Subscription> userSubscriptions : subscriptions.values()) {
+            for (Subscription subscription : userSubscriptions) {
+                subscription.offer(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    /**
+     * Number of open streams (all users).
+     */
+    public int getSubscriptionCount() {
+        return subscriptions.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<Subscription> open = new ArrayList<>();
+        subscriptions.values().forEach(open::addAll);
+        open.forEach(Subscription::close);
+        TaskExecutors.shutdown(executor);
+    }
+
+    private void send(Long userId, ApplicationUpdateDTO update) {
+        Set<Subscription> userSubscriptions = subscriptions.get(userId);
+        if (userSubscriptions == null) {
+            return;
+        }
+        String id = String.valueOf(eventIds.incrementAndGet());
+        for (Subscription subscription : userSubscriptions) {
+            subscription.offer(SseEmitter.event()
+                    .id(id)
+                    .name("application")
+                    .data(update, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.userId, (id, userSubscriptions) -> {
+            userSubscriptions.remove(subscription);
+            return userSubscriptions.isEmpty() ? null : userSubscriptions;
+        });
+    }
+
+    /**
+     * One open stream: a bounded event buffer drained by at most one pool thread at a time.
+     */
+    private final class Subscription {
+
+        private final long id = subscriptionIds.incrementAndGet();
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscription(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                logger.debug("SSE buffer full for user {}, closing stream", userId);
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                draining.set(false);
+                close();
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            remove(this);
+            buffer.clear();
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // Already completed
+            }
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.HashSet;
 import java.util.List;
@@ -172,10 +173,10 @@ public class AuthService {
         }
 
         try {
-            String username = jwtUtil.getUsernameFromToken(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            Claims claims = jwtUtil.parseToken(token);
+            UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
 
-            if (jwtUtil.validateToken(token, userDetails)) {
+            if (jwtUtil.validateClaims(claims, userDetails)) {
                 String newToken = jwtUtil.generateToken((UserPrincipal) userDetails);
                 UserPrincipal userPrincipal = (UserPrincipal) userDetails;
 
@@ -0,0 +1,150 @@
+package com.trabahanap.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trabahanap.dto.response.ApplicationSummaryDTO;
+import com.trabahanap.dto.response.EmployerDashboardDTO;
+import com.trabahanap.dto.response.JobStatsDTO;
+import com.trabahanap.dto.response.JobSummaryDTO;
+import com.trabahanap.event.ApplicationChangedEvent;
+import com.trabahanap.event.JobChangedEvent;
+import com.trabahanap.util.TaskExecutors;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Precomputed per-employer dashboard snapshots (stats, recent jobs, recent
+ * applications). A snapshot is built on the employer's first request and then
+ * served from memory; it is rebuilt in the background after a job or
+ * application change for that employer commits, and for every cached employer
+ * on a fixed schedule. Reads never wait for a rebuild, so a snapshot can lag
+ * a write by the time one rebuild takes.
+ *
+ * Rebuilds are coalesced per employer: events that arrive while a rebuild is
+ * queued are covered by it, and rebuilds for one employer never overlap. When
+ * the rebuild queue is full the rebuild is skipped, and the scheduled refresh
+ * catches the snapshot up.
+ */
+@Service
+public class EmployerDashboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployerDashboardService.class);
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    private final int recentJobs;
+    private final int recentApplications;
+    private final Cache<Long, EmployerDashboardDTO> snapshots;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final AsyncTaskExecutor executor;
+
+    public EmployerDashboardService(Environment environment,
+            @Value("${app.dashboard.recent-jobs:3}") int recentJobs,
+            @Value("${app.dashboard.recent-applications:5}") int recentApplications,
+            @Value("${app.dashboard.ttl-seconds:3600}") long ttlSeconds,
+            @Value("${app.dashboard.max-size:10000}") long maxSize,
+            @Value("${app.dashboard.executor.pool-size:2}") int poolSize) {
+        this.recentJobs = recentJobs;
+        this.recentApplications = recentApplications;
+        this.snapshots = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+        // Owned here rather than exposed as a bean, like UploadPipeline's pool.
+        // A full queue rejects the rebuild; see scheduleRebuild.
+        this.executor = TaskExecutors.create(environment, "dashboard-", poolSize, 1000,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Get the employer's dashboard, building it on the first request.
+     */
+    public EmployerDashboardDTO getDashboard(Long employerId) {
+        return snapshots.get(employerId, this::build);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        scheduleRebuild(event.getEmployerId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        scheduleRebuild(event.getEmployerId());
+    }
+
+    /**
+     * Rebuild every cached snapshot, picking up changes no event covers
+     * (e.g. direct database edits).
+     */
+    @Scheduled(fixedDelayString = "${app.dashboard.refresh-ms:300000}",
+            initialDelayString = "${app.dashboard.refresh-ms:300000}")
+    public void refreshAll() {
+        for (Long employerId : snapshots.asMap().keySet()) {
+            scheduleRebuild(employerId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        TaskExecutors.shutdown(executor);
+    }
+
+    private void scheduleRebuild(Long employerId) {
+        // Only employers with a cached snapshot; others are built on their next request
+        if (employerId == null || !snapshots.asMap().containsKey(employerId) || !pending.add(employerId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> rebuild(employerId));
+        } catch (RejectedExecutionException e) {
+            // Publishers run after commit and may still hold a connection, so they
+            // neither wait nor rebuild inline; the next change or refreshAll() retries
+            pending.remove(employerId);
+            logger.debug("Dashboard rebuild queue full, skipped employer {}", employerId);
+        }
+    }
+
+    private void rebuild(Long employerId) {
+        // Cleared before building, so a change committed from here on schedules another rebuild
+        pending.remove(employerId);
+        try {
+            // compute serializes rebuilds per employer; readers keep getting the old snapshot
+            snapshots.asMap().computeIfPresent(employerId, (id, current) -> build(id));
+        } catch (RuntimeException e) {
+            logger.warn("Could not rebuild dashboard for employer {}: {}", employerId, e.getMessage());
+        }
+    }
+
+    private EmployerDashboardDTO build(Long employerId) {
+        JobStatsDTO stats = jobService.getJobStats(employerId);
+        List<JobSummaryDTO> jobs = jobService.getRecentEmployerJobs(employerId, recentJobs);
+        List<ApplicationSummaryDTO> applications = applicationService
+                .getEmployerInbox(employerId, null, null, null, recentApplications)
+                .getItems();
+        return new EmployerDashboardDTO(stats, List.copyOf(jobs), List.copyOf(applications),
+                LocalDateTime.now());
+    }
+}
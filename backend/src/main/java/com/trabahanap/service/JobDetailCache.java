@@ -0,0 +1,85 @@
+package com.trabahanap.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trabahanap.dto.response.JobDetailDTO;
+import com.trabahanap.event.JobChangedEvent;
+
+/**
+ * Bounded read-through cache of serialized job detail responses keyed by job id.
+ * Each entry keeps the JSON body together with its strong ETag and Last-Modified
+ * time, so conditional and repeat GETs are answered without a database query or
+ * re-serialization. Entries are evicted after a job is updated or deleted.
+ */
+@Component
+public class JobDetailCache {
+
+    /**
+     * Serialized job detail and its validators.
+     */
+    public record Entry(byte[] body, String etag, long lastModified) {
+    }
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Cache<Long, Entry> cache;
+
+    public JobDetailCache(
+            @Value("${app.cache.job-detail.ttl-seconds:600}") long ttlSeconds,
+            @Value("${app.cache.job-detail.max-size:1000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Get the cached detail for a job, loading and serializing it on a miss.
+     *
+     * @throws com.trabahanap.exception.ResourceNotFoundException if the job does not exist
+     */
+    public Entry get(Long jobId) {
+        return cache.get(jobId, this::load);
+    }
+
+    public void evict(Long jobId) {
+        cache.invalidate(jobId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        evict(event.getJobId());
+    }
+
+    private Entry load(Long jobId) {
+        JobDetailDTO job = jobService.getJobById(jobId);
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(job);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize job " + jobId, e);
+        }
+        String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        LocalDateTime modified = job.getUpdatedAt() != null ? job.getUpdatedAt() : job.getCreatedAt();
+        long lastModified = modified != null
+                ? modified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+        return new Entry(body, etag, lastModified);
+    }
+}
@@ -0,0 +1,128 @@
+package com.trabahanap.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trabahanap.dto.response.JobFlagsDTO;
+import com.trabahanap.event.ApplicationChangedEvent;
+import com.trabahanap.event.SavedJobChangedEvent;
+import com.trabahanap.exception.BadRequestException;
+import com.trabahanap.repository.JobApplicationRepository;
+import com.trabahanap.repository.SavedJobRepository;
+import com.trabahanap.util.Constants;
+
+/**
+ * Answers "has the user applied to / saved these jobs" for a whole page of job
+ * cards at once. Each user's applied and saved job ids are cached as sets, loaded
+ * with two queries on first use and updated after apply/save/remove commits, so
+ * repeat lookups need no database access. With the cache disabled each lookup
+ * runs two IN queries for just the requested ids.
+ */
+@Service
+public class JobFlagsService {
+
+    @Autowired
+    private JobApplicationRepository applicationRepository;
+
+    @Autowired
+    private SavedJobRepository savedJobRepository;
+
+    private final boolean cacheEnabled;
+    private final Cache<Long, UserJobIds> cache;
+
+    public JobFlagsService(
+            @Value("${app.cache.job-flags.enabled:true}") boolean cacheEnabled,
+            @Value("${app.cache.job-flags.ttl-seconds:900}") long ttlSeconds,
+            @Value("${app.cache.job-flags.max-size:10000}") long maxSize) {
+        this.cacheEnabled = cacheEnabled;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Get applied/saved flags for the given jobs, in request order without duplicates.
+     *
+     * @throws BadRequestException if more than MAX_PAGE_SIZE ids are requested
+     */
+    public List<JobFlagsDTO> getFlags(Long userId, Collection<Long> jobIds) {
+        if (jobIds.size() > Constants.MAX_PAGE_SIZE) {
+            throw new BadRequestException("At most " + Constants.MAX_PAGE_SIZE + " job ids can be requested");
+        }
+        Set<Long> ids = new LinkedHashSet<>(jobIds);
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> applied;
+        Set<Long> saved;
+        if (cacheEnabled) {
+            UserJobIds userJobIds = cache.get(userId, this::load);
+            applied = userJobIds.applied;
+            saved = userJobIds.saved;
+        } else {
+            applied = new HashSet<>(applicationRepository.findJobIdsByApplicantIdAndJobIdIn(userId, ids));
+            saved = new HashSet<>(savedJobRepository.findJobIdsByUserIdAndJobIdIn(userId, ids));
+        }
+
+        List<JobFlagsDTO> flags = new ArrayList<>(ids.size());
+        for (Long jobId : ids) {
+            flags.add(new JobFlagsDTO(jobId, applied.contains(jobId), saved.contains(jobId)));
+        }
+        return flags;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        if (event.getChangeType() != ApplicationChangedEvent.ChangeType.SUBMITTED) {
+            return;
+        }
+        // computeIfPresent waits for an in-flight load, so the update is not lost
+        cache.asMap().computeIfPresent(event.getApplicantId(), (userId, ids) -> {
+            ids.applied.add(event.getJobId());
+            return ids;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSavedJobChanged(SavedJobChangedEvent event) {
+        cache.asMap().computeIfPresent(event.getUserId(), (userId, ids) -> {
+            if (event.isSaved()) {
+                ids.saved.add(event.getJobId());
+            } else {
+                ids.saved.remove(event.getJobId());
+            }
+            return ids;
+        });
+    }
+
+    private UserJobIds load(Long userId) {
+        UserJobIds ids = new UserJobIds();
+        ids.applied.addAll(applicationRepository.findJobIdsByApplicantId(userId));
+        ids.saved.addAll(savedJobRepository.findJobIdsByUserId(userId));
+        return ids;
+    }
+
+    /**
+     * Cached job ids for one user.
+     */
+    private static final class UserJobIds {
+        private final Set<Long> applied = ConcurrentHashMap.newKeySet();
+        private final Set<Long> saved = ConcurrentHashMap.newKeySet();
+    }
+}
@@ -0,0 +1,364 @@
+package com.trabahanap.service;
+
+import com.trabahanap.dto.response.JobDTO;
+import com.trabahanap.dto.response.JobSearchResultDTO;
+import com.trabahanap.event.JobChangedEvent;
+import com.trabahanap.mapper.JobMapper;
+import com.trabahanap.model.Job;
+import com.trabahanap.repository.JobRepository;
+import com.trabahanap.util.Constants;
+import com.trabahanap.util.KeysetCursor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process full-text search over job postings.
+ * Keeps an inverted index over title, company, location, description and
+ * requirements, ranked with BM25 (field-weighted term frequencies) and with
+ * prefix expansion so partial words still match. The index is built once at
+ * startup and then maintained from JobChangedEvents after each commit, so
+ * queries never touch the database.
+ *
+ * Changes that commit while the index is being built are held back and
+ * applied once the build is done. A batch read before such a commit would
+ * otherwise overwrite the newer entry with stale data.
+ */
+@Service
+public class JobSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchService.class);
+
+    // BM25 tuning constants
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Field weights applied to term frequencies
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float COMPANY_WEIGHT = 2.0f;
+    private static final float LOCATION_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final float REQUIREMENTS_WEIGHT = 1.0f;
+
+    // Prefix matches rank below exact matches (scaled further by how much of the
+    // term the prefix covers) and are capped per query term
+    private static final double PREFIX_MATCH_FACTOR = 0.7;
+    private static final int MAX_PREFIX_EXPANSIONS = 50;
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "in",
+            "is", "of", "on", "or", "the", "to", "with");
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> (job id -> weighted term frequency); sorted for prefix lookups
+    private final TreeMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, IndexedJob> documents = new HashMap<>();
+    private double totalLength;
+
+    // Changes received during rebuildIndex(), replayed in order when it finishes;
+    // null when no rebuild is running
+    private final Object rebuildLock = new Object();
+    private List<JobChangedEvent> changesDuringRebuild;
+
+    /**
+     * Build the index from the database once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        long start = System.currentTimeMillis();
+        synchronized (rebuildLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        int indexed;
+        try {
+            indexed = indexAllJobs();
+        } finally {
+            synchronized (rebuildLock) {
+                changesDuringRebuild.forEach(this::apply);
+                changesDuringRebuild = null;
+            }
+        }
+
+        logger.info("Job search index built: {} jobs, {} terms in {} ms",
+                indexed, termCount(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Keep the index in sync with committed job changes.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        synchronized (rebuildLock) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+                return;
+            }
+        }
+        apply(event);
+    }
+
+    private int indexAllJobs() {
+        KeysetCursor position = KeysetCursor.first();
+        int indexed = 0;
+        while (true) {
+            List<Job> batch = jobRepository.findFullTextPage(
+                    position.getTimestamp(), position.getId(), PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Job job : batch) {
+                index(JobMapper.toDTO(job));
+            }
+            indexed += batch.size();
+            if (batch.size() < REBUILD_BATCH_SIZE) {
+                break;
+            }
+            Job last = batch.get(batch.size() - 1);
+            position = new KeysetCursor(last.getCreatedAt(), last.getId());
+        }
+        return indexed;
+    }
+
+    private void apply(JobChangedEvent event) {
+        if (event.getChangeType() == JobChangedEvent.ChangeType.DELETED) {
+            remove(event.getJobId());
+        } else {
+            index(event.getJob());
+        }
+    }
+
+    /**
+     * Add or replace a job in the index.
+     */
+    public void index(JobDTO job) {
+        Map<String, Float> termFrequencies = new HashMap<>();
+        float length = 0;
+        length += addTerms(termFrequencies, job.getTitle(), TITLE_WEIGHT);
+        length += addTerms(termFrequencies, job.getCompany(), COMPANY_WEIGHT);
+        length += addTerms(termFrequencies, job.getLocation(), LOCATION_WEIGHT);
+        length += addTerms(termFrequencies, job.getDescription(), DESCRIPTION_WEIGHT);
+        length += addTerms(termFrequencies, job.getRequirements(), REQUIREMENTS_WEIGHT);
+
+        IndexedJob document = new IndexedJob(job, termFrequencies, length);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getId());
+            for (Map.Entry<String, Float> entry : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>())
+                        .put(job.getId(), entry.getValue());
+            }
+            documents.put(job.getId(), document);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a job from the index.
+     */
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Search jobs, best matches first.
+     *
+     * @param query Free-text query; words may be partial (prefix match)
+     * @param limit Maximum number of hits, capped at Constants.MAX_PAGE_SIZE
+     */
+    public List<JobSearchResultDTO> search(String query, Integer limit) {
+        int maxResults = limit == null ? Constants.DEFAULT_PAGE_SIZE
+                : Math.max(1, Math.min(limit, Constants.MAX_PAGE_SIZE));
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = totalLength / documentCount;
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String queryTerm : queryTerms) {
+                // Best contribution of this query term per document (exact or prefix match)
+                Map<Long, Double> termScores = new HashMap<>();
+                scoreTerm(queryTerm, 1.0, documentCount, averageLength, termScores);
+
+                int expansions = 0;
+                for (String term : prefixMatches(queryTerm).keySet()) {
+                    if (term.equals(queryTerm)) {
+                        continue;
+                    }
+                    if (++expansions > MAX_PREFIX_EXPANSIONS) {
+                        break;
+                    }
+                    double coverage = (double) queryTerm.length() / term.length();
+                    scoreTerm(term, PREFIX_MATCH_FACTOR * coverage, documentCount, averageLength, termScores);
+                }
+                termScores.forEach((jobId, score) -> scores.merge(jobId, score, Double::sum));
+            }
+
+            // Keep only the top results in a bounded min-heap
+            PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(
+                    Map.Entry.comparingByValue());
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                top.offer(entry);
+                if (top.size() > maxResults) {
+                    top.poll();
+                }
+            }
+
+            List<JobSearchResultDTO> results = new ArrayList<>(top.size());
+            for (Map.Entry<Long, Double> entry : top) {
+                results.add(documents.get(entry.getKey()).toResult(entry.getValue()));
+            }
+            results.sort(Comparator.comparingDouble(JobSearchResultDTO::getScore).reversed()
+                    .thenComparing(JobSearchResultDTO::getId, Comparator.reverseOrder()));
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of distinct terms in the index.
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Split text into lowercase index terms, dropping stop words.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private float addTerms(Map<String, Float> termFrequencies, String text, float weight) {
+        List<String> tokens = tokenize(text);
+        for (String token : tokens) {
+            termFrequencies.merge(token, weight, Float::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    private void scoreTerm(String term, double factor, int documentCount, double averageLength,
+            Map<Long, Double> termScores) {
+        Map<Long, Float> postingList = postings.get(term);
+        if (postingList == null) {
+            return;
+        }
+        double documentFrequency = postingList.size();
+        double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+        for (Map.Entry<Long, Float> posting : postingList.entrySet()) {
+            double tf = posting.getValue();
+            double length = documents.get(posting.getKey()).length;
+            double score = idf * (tf * (K1 + 1)) / (tf + K1 * (1 - B + B * length / averageLength));
+            termScores.merge(posting.getKey(), score * factor, Math::max);
+        }
+    }
+
+    private SortedMap<String, Map<Long, Float>> prefixMatches(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void removeLocked(Long jobId) {
+        IndexedJob existing = documents.remove(jobId);
+        if (existing == null) {
+            return;
+        }
+        for (String term : existing.termFrequencies.keySet()) {
+            Map<Long, Float> postingList = postings.get(term);
+            if (postingList != null) {
+                postingList.remove(jobId);
+                if (postingList.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= existing.length;
+    }
+
+    /**
+     * Indexed document: the fields returned in search results plus its term statistics.
+     */
+    private static final class IndexedJob {
+        private final Long id;
+        private final String title;
+        private final String company;
+        private final String location;
+        private final String jobType;
+        private final Double salary;
+        private final String postedByUsername;
+        private final LocalDateTime createdAt;
+        private final Map<String, Float> termFrequencies;
+        private final float length;
+
+        private IndexedJob(JobDTO job, Map<String, Float> termFrequencies, float length) {
+            this.id = job.getId();
+            this.title = job.getTitle();
+            this.company = job.getCompany();
+            this.location = job.getLocation();
+            this.jobType = job.getJobType();
+            this.salary = job.getSalary();
+            this.postedByUsername = job.getPostedByUsername();
+            this.createdAt = job.getCreatedAt();
+            this.termFrequencies = termFrequencies;
+            this.length = length;
+        }
+
+        private JobSearchResultDTO toResult(double score) {
+            return new JobSearchResultDTO(id, title, company, location, jobType,
+                    salary, postedByUsername, createdAt, score);
+        }
+    }
+}
@@ -2,29 +2,49 @@ package com.trabahanap.service;
 
 import com.trabahanap.dto.request.JobCreateRequest;
 import com.trabahanap.dto.request.JobUpdateRequest;
+import com.trabahanap.dto.response.CursorPageDTO;
+import com.trabahanap.dto.response.JobApplicationStatsDTO;
 import com.trabahanap.dto.response.JobDTO;
 import com.trabahanap.dto.response.JobDetailDTO;
 import com.trabahanap.dto.response.JobStatsDTO;
+import com.trabahanap.dto.response.JobSummaryDTO;
+import com.trabahanap.event.JobChangedEvent;
 import com.trabahanap.exception.ForbiddenException;
 import com.trabahanap.exception.ResourceNotFoundException;
 import com.trabahanap.mapper.JobMapper;
 import com.trabahanap.model.Job;
+import com.trabahanap.model.JobApplication.ApplicationStatus;
 import com.trabahanap.model.User;
 import com.trabahanap.repository.JobApplicationRepository;
+import com.trabahanap.repository.JobApplicationRepository.JobStatusCount;
 import com.trabahanap.repository.JobRepository;
+import com.trabahanap.repository.JobRepository.EmployerJobCounts;
 import com.trabahanap.repository.UserRepository;
 import com.trabahanap.security.AuthorizationHelper;
+import com.trabahanap.util.Constants;
+import com.trabahanap.util.KeysetCursor;
+
+import io.micrometer.core.annotation.Timed;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Service layer for job-related operations.
  */
 @Service
+@Timed("trabahanap.service")
 public class JobService {
 
     @Autowired
@@ -36,38 +56,69 @@ public class JobService {
     @Autowired
     private JobApplicationRepository applicationRepository;
 
+    @Autowired
+    private ApplicationCounterService applicationCounterService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Get all jobs.
      */
     @Transactional(readOnly = true)
-    public List<JobDTO> getAllJobs() {
-        List<Job> jobs = jobRepository.findAll();
-        return JobMapper.toDTOList(jobs);
+    public List<JobSummaryDTO> getAllJobs() {
+        return jobRepository.findAllSummaries();
     }
 
     /**
-     * Get job by ID.
+     * Get a keyset-paginated page of jobs, newest first.
+     * Filters are optional; the page size is capped at Constants.MAX_PAGE_SIZE.
      */
     @Transactional(readOnly = true)
-    public JobDTO getJobById(Long jobId) {
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new ResourceNotFoundException("Job", "id", jobId));
+    public CursorPageDTO<JobSummaryDTO> getJobFeed(String location, String jobType, Double minSalary,
+            Double maxSalary, String cursor, Integer size) {
+        int pageSize = size == null ? Constants.DEFAULT_PAGE_SIZE
+                : Math.max(1, Math.min(size, Constants.MAX_PAGE_SIZE));
+        KeysetCursor position = KeysetCursor.decodeOrFirst(cursor);
+
+        String locationPattern = (location == null || location.isBlank()) ? null
+                : "%" + location.trim().toLowerCase(Locale.ROOT) + "%";
+        String jobTypeFilter = (jobType == null || jobType.isBlank()) ? null : jobType.trim();
 
-        // Force initialization of lazy-loaded properties
-        if (job.getPostedBy() != null) {
-            job.getPostedBy().getUsername();
+        // Fetch one extra row to know whether another page exists
+        List<JobSummaryDTO> jobs = jobRepository.findJobFeedPage(
+                locationPattern, jobTypeFilter, minSalary, maxSalary,
+                position.getTimestamp(), position.getId(),
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = jobs.size() > pageSize;
+        List<JobSummaryDTO> page = hasMore ? jobs.subList(0, pageSize) : jobs;
+
+        String nextCursor = null;
+        if (hasMore) {
+            JobSummaryDTO last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.id()).encode();
         }
 
-        return JobMapper.toDTO(job);
+        return new CursorPageDTO<>(page, nextCursor, hasMore);
+    }
+
+    /**
+     * Get job by ID.
+     */
+    @Transactional(readOnly = true)
+    public JobDetailDTO getJobById(Long jobId) {
+        Job job = jobRepository.findByIdWithPostedBy(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", "id", jobId));
+        return JobMapper.toDetailDTO(job);
     }
 
     /**
      * Get jobs posted by a specific employer.
      */
     @Transactional(readOnly = true)
-    public List<JobDTO> getEmployerJobs(Long employerId) {
-        List<Job> jobs = jobRepository.findJobsByEmployerId(employerId);
-        return JobMapper.toDTOList(jobs);
+    public List<JobSummaryDTO> getEmployerJobs(Long employerId) {
+        return jobRepository.findSummariesByEmployerId(employerId, Limit.unlimited());
     }
 
     /**
@@ -84,7 +135,10 @@ public class JobService {
         job.setPostedBy(user);
 
         Job savedJob = jobRepository.save(job);
-        return JobMapper.toDTO(savedJob);
+        applicationCounterService.jobCreated(savedJob.getId(), userId);
+        JobDTO dto = JobMapper.toDTO(savedJob);
+        eventPublisher.publishEvent(JobChangedEvent.created(userId, dto));
+        return dto;
     }
 
     /**
@@ -125,7 +179,9 @@ public class JobService {
         }
 
         Job updatedJob = jobRepository.save(job);
-        return JobMapper.toDTO(updatedJob);
+        JobDTO dto = JobMapper.toDTO(updatedJob);
+        eventPublisher.publishEvent(JobChangedEvent.updated(userId, dto));
+        return dto;
     }
 
     /**
@@ -143,38 +199,69 @@ public class JobService {
 
         // Delete the job (cascade should handle applications if configured)
         jobRepository.delete(job);
+        applicationCounterService.jobDeleted(jobId);
+        eventPublisher.publishEvent(JobChangedEvent.deleted(userId, jobId));
     }
 
     /**
      * Get job statistics for an employer.
+     * Application counts come from the counter table when enabled, otherwise from
+     * a single grouped query over job_applications.
      */
     @Transactional(readOnly = true)
     public JobStatsDTO getJobStats(Long employerId) {
-        List<Job> jobs = jobRepository.findJobsByEmployerId(employerId);
+        EmployerJobCounts jobCounts = jobRepository.countJobsByEmployerId(employerId);
+        int totalJobs = (int) jobCounts.getTotal();
+        int closedJobs = (int) jobCounts.getClosed();
+        int activeJobs = totalJobs - closedJobs;
 
-        int totalJobs = jobs.size();
-        int activeJobs = (int) jobs.stream().filter(j -> !"CLOSED".equals(j.getJobType())).count();
-        int closedJobs = totalJobs - activeJobs;
+        List<JobApplicationStatsDTO> perJob = applicationCounterService.isEnabled()
+                ? applicationCounterService.getJobStats(employerId)
+                : aggregateJobStats(employerId);
 
-        long totalApplications = 0;
-        for (Job job : jobs) {
-            totalApplications += applicationRepository.countByJobId(job.getId());
+        long total = 0, pending = 0, reviewed = 0, accepted = 0, rejected = 0;
+        for (JobApplicationStatsDTO jobStats : perJob) {
+            total += jobStats.getTotalApplications();
+            pending += jobStats.getPendingApplications();
+            reviewed += jobStats.getReviewedApplications();
+            accepted += jobStats.getAcceptedApplications();
+            rejected += jobStats.getRejectedApplications();
         }
 
-        return new JobStatsDTO(
+        JobStatsDTO stats = new JobStatsDTO(
                 totalJobs, activeJobs, closedJobs,
-                (int) totalApplications, 0, 0, 0);
+                (int) total, (int) pending, (int) accepted, (int) rejected);
+        stats.setReviewedApplications((int) reviewed);
+        stats.setJobs(perJob);
+        return stats;
+    }
+
+    /**
+     * Fold grouped (job, status, count) rows into per-job statistics, newest job first.
+     */
+    private List<JobApplicationStatsDTO> aggregateJobStats(Long employerId) {
+        Map<Long, JobApplicationStatsDTO> byJob = new LinkedHashMap<>();
+        for (JobStatusCount row : applicationRepository.countByEmployerGroupedByJobAndStatus(employerId)) {
+            JobApplicationStatsDTO jobStats = byJob.computeIfAbsent(row.getJobId(), JobApplicationStatsDTO::new);
+            jobStats.setTotalApplications(jobStats.getTotalApplications() + row.getTotal());
+            ApplicationStatus status = row.getStatus();
+            switch (status) {
+                case PENDING -> jobStats.setPendingApplications(jobStats.getPendingApplications() + row.getTotal());
+                case REVIEWED -> jobStats.setReviewedApplications(jobStats.getReviewedApplications() + row.getTotal());
+                case ACCEPTED -> jobStats.setAcceptedApplications(jobStats.getAcceptedApplications() + row.getTotal());
+                case REJECTED -> jobStats.setRejectedApplications(jobStats.getRejectedApplications() + row.getTotal());
+            }
+        }
+        List<JobApplicationStatsDTO> perJob = new ArrayList<>(byJob.values());
+        perJob.sort(Comparator.comparing(JobApplicationStatsDTO::getJobId).reversed());
+        return perJob;
     }
 
     /**
      * Get recent jobs for an employer (limited).
      */
     @Transactional(readOnly = true)
-    public List<JobDTO> getRecentEmployerJobs(Long employerId, int limit) {
-        List<Job> jobs = jobRepository.findJobsByEmployerId(employerId);
-        return jobs.stream()
-                .limit(limit)
-                .map(JobMapper::toDTO)
-                .toList();
+    public List<JobSummaryDTO> getRecentEmployerJobs(Long employerId, int limit) {
+        return jobRepository.findSummariesByEmployerId(employerId, Limit.of(limit));
     }
 }
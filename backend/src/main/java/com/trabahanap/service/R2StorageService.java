@@ -1,19 +1,31 @@
 package com.trabahanap.service;
 
+import com.trabahanap.exception.FileStorageException;
+import com.trabahanap.exception.ResourceNotFoundException;
+
+import jakarta.annotation.PreDestroy;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Service for storing files in Cloudflare R2 (S3-compatible storage).
+ * Uploads go through the async client and return futures; large objects are
+ * uploaded as parallel multipart parts. Downloads use the blocking client.
  * Only activated when app.storage.type=r2
  */
 @Service
@@ -21,17 +33,30 @@ import java.util.UUID;
 public class R2StorageService {
 
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
     private final String bucketName;
     private final String publicUrl;
 
+    // Feeds upload bodies from the multipart temp files into the async client
+    private final ThreadPoolTaskExecutor bodyExecutor;
+
     public R2StorageService(
             S3Client s3Client,
+            S3AsyncClient s3AsyncClient,
             @Value("${app.r2.bucket:trabahanap-uploads}") String bucketName,
-            @Value("${app.r2.public-url:}") String publicUrl) {
+            @Value("${app.r2.public-url:}") String publicUrl,
+            @Value("${app.r2.upload.parallelism:8}") int uploadParallelism) {
         this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
         this.bucketName = bucketName;
         this.publicUrl = publicUrl;
 
+        this.bodyExecutor = new ThreadPoolTaskExecutor();
+        this.bodyExecutor.setCorePoolSize(uploadParallelism);
+        this.bodyExecutor.setMaxPoolSize(uploadParallelism);
+        this.bodyExecutor.setThreadNamePrefix("r2-upload-");
+        this.bodyExecutor.initialize();
+
         // Verify bucket exists on startup (non-blocking)
         if (s3Client != null) {
             ensureBucketExists();
@@ -41,56 +66,61 @@ public class R2StorageService {
     }
 
     /**
-     * Upload a file to R2 storage.
+     * Upload a file to R2 storage under the given object key.
+     * Files above the multipart threshold are split into parts uploaded in parallel.
      *
-     * @param file   The file to upload
-     * @param folder The folder/prefix for the file
-     * @return The object key (path) of the uploaded file
+     * @param objectKey The object key (path) to store the file under
+     * @param file      The file to upload
+     * @return Completes when the object is stored; fails with FileStorageException
      */
-    public String uploadFile(MultipartFile file, String folder) {
-        String originalFilename = StringUtils.cleanPath(file.getOriginalFilename());
-
-        if (originalFilename.contains("..")) {
-            throw new RuntimeException("Invalid file name: " + originalFilename);
-        }
-
-        // Generate unique filename
-        String uniqueFileName = UUID.randomUUID().toString() + "_" + originalFilename;
-        String objectKey = folder + "/" + uniqueFileName;
+    public CompletableFuture<Void> putObjectAsync(String objectKey, MultipartFile file) {
+        // Content length comes from the body; set on the request it would be
+        // copied onto every part of a multipart upload
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .contentType(file.getContentType())
+                .build();
 
+        InputStream in;
         try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(objectKey)
-                    .contentType(file.getContentType())
-                    .contentLength(file.getSize())
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(
-                    file.getInputStream(), file.getSize()));
-
-            return objectKey;
+            in = file.getInputStream();
         } catch (IOException e) {
-            throw new RuntimeException("Failed to upload file to R2: " + originalFilename, e);
+            return CompletableFuture.failedFuture(
+                    new FileStorageException("Could not read file " + file.getOriginalFilename(), e));
         }
+
+        AsyncRequestBody body = AsyncRequestBody.fromInputStream(
+                in, file.getSize(), bodyExecutor.getThreadPoolExecutor());
+        return s3AsyncClient.putObject(putObjectRequest, body)
+                .handle((response, error) -> {
+                    closeQuietly(in);
+                    if (error != null) {
+                        throw new FileStorageException(
+                                "Failed to upload file to R2: " + file.getOriginalFilename(), unwrap(error));
+                    }
+                    return null;
+                });
     }
 
     /**
-     * Download a file from R2 storage.
+     * Open a file in R2 storage for streaming download.
+     * Only a HEAD request is made here; content is fetched when the file is transferred.
      *
      * @param objectKey The object key (path) of the file
-     * @return The file content as bytes
+     * @return A handle that streams the object content
      */
-    public byte[] downloadFile(String objectKey) {
+    public StoredFile openFile(String objectKey) {
         try {
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+            HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
                     .bucket(bucketName)
                     .key(objectKey)
                     .build();
 
-            return s3Client.getObjectAsBytes(getObjectRequest).asByteArray();
+            HeadObjectResponse head = s3Client.headObject(headObjectRequest);
+            return new R2StoredFile(objectKey, head.contentLength());
         } catch (NoSuchKeyException e) {
-            throw new RuntimeException("File not found in R2: " + objectKey, e);
+            throw new ResourceNotFoundException("File", "key", objectKey);
         }
     }
 
@@ -132,22 +162,43 @@ public class R2StorageService {
     }
 
     /**
-     * Check if a file exists in R2 storage.
+     * Check if a file exists in R2 storage without blocking the caller.
      *
      * @param objectKey The object key (path) of the file
-     * @return true if the file exists, false otherwise
+     * @return Completes with true if the file exists, false otherwise
      */
-    public boolean fileExists(String objectKey) {
-        try {
-            HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(objectKey)
-                    .build();
+    public CompletableFuture<Boolean> fileExistsAsync(String objectKey) {
+        HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .build();
 
-            s3Client.headObject(headObjectRequest);
-            return true;
-        } catch (NoSuchKeyException e) {
-            return false;
+        return s3AsyncClient.headObject(headObjectRequest)
+                .handle((response, error) -> {
+                    if (error == null) {
+                        return true;
+                    }
+                    if (unwrap(error) instanceof NoSuchKeyException) {
+                        return false;
+                    }
+                    throw new FileStorageException("Could not check file in R2: " + objectKey, unwrap(error));
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bodyExecutor.shutdown();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException e) {
+            // Nothing left to release
         }
     }
 
@@ -172,4 +223,44 @@ public class R2StorageService {
             System.err.println("   Check your R2_ENDPOINT, R2_ACCESS_KEY, and R2_SECRET_KEY configuration.");
         }
     }
+
+    /**
+     * R2 object streamed from the S3 response body, fetching only the requested byte range.
+     */
+    private final class R2StoredFile implements StoredFile {
+        private final String objectKey;
+        private final long size;
+
+        private R2StoredFile(String objectKey, long size) {
+            this.objectKey = objectKey;
+            this.size = size;
+        }
+
+        @Override
+        public String getFilename() {
+            return objectKey.contains("/") ? objectKey.substring(objectKey.lastIndexOf("/") + 1) : objectKey;
+        }
+
+        @Override
+        public long getContentLength() {
+            return size;
+        }
+
+        @Override
+        public void transferTo(OutputStream out, long offset, long length) throws IOException {
+            if (length <= 0) {
+                return;
+            }
+            GetObjectRequest.Builder request = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey);
+            if (offset > 0 || length < size) {
+                request.range("bytes=" + offset + "-" + (offset + length - 1));
+            }
+
+            try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(request.build())) {
+                in.transferTo(out);
+            }
+        }
+    }
 }
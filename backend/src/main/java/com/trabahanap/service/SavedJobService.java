@@ -1,29 +1,34 @@
 package com.trabahanap.service;
 
-import com.trabahanap.dto.response.JobDTO;
+import com.trabahanap.dto.response.CursorPageDTO;
+import com.trabahanap.dto.response.SavedJobDTO;
+import com.trabahanap.event.SavedJobChangedEvent;
 import com.trabahanap.exception.DuplicateResourceException;
 import com.trabahanap.exception.ResourceNotFoundException;
-import com.trabahanap.mapper.JobMapper;
 import com.trabahanap.model.Job;
 import com.trabahanap.model.SavedJob;
 import com.trabahanap.model.User;
 import com.trabahanap.repository.JobRepository;
 import com.trabahanap.repository.SavedJobRepository;
 import com.trabahanap.repository.UserRepository;
+import com.trabahanap.util.Constants;
+import com.trabahanap.util.KeysetCursor;
+
+import io.micrometer.core.annotation.Timed;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Service layer for saved job operations.
  */
 @Service
+@Timed("trabahanap.service")
 public class SavedJobService {
 
     @Autowired
@@ -35,6 +40,9 @@ public class SavedJobService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Save a job for a user.
      */
@@ -53,6 +61,7 @@ public class SavedJobService {
 
         SavedJob savedJob = new SavedJob(user, job);
         savedJobRepository.save(savedJob);
+        eventPublisher.publishEvent(new SavedJobChangedEvent(userId, jobId, true));
     }
 
     /**
@@ -61,18 +70,40 @@ public class SavedJobService {
     @Transactional
     public void removeSavedJob(Long userId, Long jobId) {
         savedJobRepository.deleteByUserIdAndJobId(userId, jobId);
+        eventPublisher.publishEvent(new SavedJobChangedEvent(userId, jobId, false));
     }
 
     /**
      * Get all saved jobs for a user.
      */
     @Transactional(readOnly = true)
-    public List<Map<String, Object>> getMySavedJobs(Long userId) {
-        List<SavedJob> savedJobs = savedJobRepository.findByUserIdWithJobDetails(userId);
+    public List<SavedJobDTO> getMySavedJobs(Long userId) {
+        return savedJobRepository.findSummariesByUserId(userId);
+    }
+
+    /**
+     * Get one keyset page of a user's saved jobs, most recently saved first.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<SavedJobDTO> getMySavedJobsPage(Long userId, String cursor, Integer size) {
+        int pageSize = size == null ? Constants.DEFAULT_PAGE_SIZE
+                : Math.max(1, Math.min(size, Constants.MAX_PAGE_SIZE));
+        KeysetCursor position = KeysetCursor.decodeOrFirst(cursor);
+
+        // Fetch one extra row to know whether another page exists
+        List<SavedJobDTO> rows = savedJobRepository.findSummaryPageByUserId(
+                userId, position.getTimestamp(), position.getId(), PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<SavedJobDTO> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            SavedJobDTO last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.savedAt(), last.id()).encode();
+        }
 
-        return savedJobs.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return new CursorPageDTO<>(page, nextCursor, hasMore);
     }
 
     /**
@@ -88,33 +119,4 @@ public class SavedJobService {
     public long getSavedJobsCount(Long userId) {
         return savedJobRepository.countByUserId(userId);
     }
-
-    /**
-     * Convert SavedJob to DTO map.
-     */
-    private Map<String, Object> convertToDTO(SavedJob savedJob) {
-        Map<String, Object> dto = new HashMap<>();
-        Job job = savedJob.getJob();
-
-        dto.put("id", savedJob.getId());
-        dto.put("savedAt", savedJob.getSavedAt());
-
-        // Job details
-        Map<String, Object> jobDetails = new HashMap<>();
-        jobDetails.put("id", job.getId());
-        jobDetails.put("title", job.getTitle());
-        jobDetails.put("company", job.getCompany());
-        jobDetails.put("location", job.getLocation());
-        jobDetails.put("jobType", job.getJobType());
-        jobDetails.put("description", job.getDescription());
-        jobDetails.put("requirements", job.getRequirements());
-        jobDetails.put("salary", job.getSalary());
-        if (job.getPostedBy() != null) {
-            jobDetails.put("postedBy", job.getPostedBy().getUsername());
-        }
-
-        dto.put("job", jobDetails);
-
-        return dto;
-    }
 }
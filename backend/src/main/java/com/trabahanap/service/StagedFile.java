@@ -0,0 +1,38 @@
+package com.trabahanap.service;
+
+/**
+ * Upload whose content has been written to storage and whose blob row is
+ * reserved, but which is not yet referenced from the database. Produced by
+ * FileStorageService.stageFile outside any transaction and then committed
+ * or discarded.
+ */
+public final class StagedFile {
+
+    private final String digest;
+    private final String blobKey;
+    private final long size;
+    private final String contentType;
+
+    StagedFile(String digest, String blobKey, long size, String contentType) {
+        this.digest = digest;
+        this.blobKey = blobKey;
+        this.size = size;
+        this.contentType = contentType;
+    }
+
+    public String getDigest() {
+        return digest;
+    }
+
+    public String getBlobKey() {
+        return blobKey;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,30 @@
+package com.trabahanap.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Handle to a file in storage that can be streamed to a client
+ * without loading its content into memory.
+ */
+public interface StoredFile {
+
+    /**
+     * File name without folder prefix.
+     */
+    String getFilename();
+
+    /**
+     * Total size of the file in bytes.
+     */
+    long getContentLength();
+
+    /**
+     * Copy a byte range of the file to the given stream.
+     *
+     * @param out    Destination stream (not closed)
+     * @param offset First byte to copy
+     * @param length Number of bytes to copy
+     */
+    void transferTo(OutputStream out, long offset, long length) throws IOException;
+}
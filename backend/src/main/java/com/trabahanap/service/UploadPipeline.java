@@ -0,0 +1,97 @@
+package com.trabahanap.service;
+
+import com.trabahanap.config.QueryCountInspector;
+import com.trabahanap.exception.FileStorageException;
+import com.trabahanap.util.TaskExecutors;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Stages uploads to storage in parallel on a dedicated thread pool.
+ * Callers stage before opening a transaction, so file I/O never holds a
+ * pooled database connection, then commit the staged files inside it.
+ */
+@Service
+public class UploadPipeline {
+
+    private final FileStorageService fileStorageService;
+    private final AsyncTaskExecutor executor;
+
+    public UploadPipeline(FileStorageService fileStorageService, Environment environment,
+            @Value("${app.upload.executor.pool-size:4}") int poolSize,
+            @Value("${app.upload.executor.queue-capacity:50}") int queueCapacity) {
+        this.fileStorageService = fileStorageService;
+
+        // Owned here rather than exposed as a bean so Spring Boot's default
+        // application task executor stays in place for everything else.
+        // When saturated, the request thread waits for queue space. Running the
+        // task there instead would let open-in-view pin a connection while the
+        // request waits on upload tasks that need connections themselves.
+        this.executor = TaskExecutors.create(environment, "upload-", poolSize, queueCapacity,
+                TaskExecutors.waitForQueueSpace());
+    }
+
+    /**
+     * Stage the uploads in parallel on the pool and wait for all of them.
+     * Null or empty files yield null at the same position. If any upload fails,
+     * the ones that succeeded are discarded before the error is thrown.
+     */
+    public List<StagedFile> stageAll(MultipartFile... files) {
+        // Staging queries count towards the request that waits for them
+        Executor countingExecutor = QueryCountInspector.counting(executor);
+        List<CompletableFuture<StagedFile>> futures = new ArrayList<>(files.length);
+        for (MultipartFile file : files) {
+            if (file == null || file.isEmpty()) {
+                futures.add(CompletableFuture.completedFuture(null));
+            } else {
+                futures.add(fileStorageService.stageFileAsync(file, countingExecutor));
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            for (CompletableFuture<StagedFile> future : futures) {
+                if (!future.isCompletedExceptionally()) {
+                    fileStorageService.discardStagedFile(future.join());
+                }
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new FileStorageException("Could not store uploaded files", e.getCause());
+        }
+
+        List<StagedFile> staged = new ArrayList<>(futures.size());
+        for (CompletableFuture<StagedFile> future : futures) {
+            staged.add(future.join());
+        }
+        return staged;
+    }
+
+    /**
+     * Discard staged uploads that ended up unreferenced.
+     */
+    public void discardAll(List<StagedFile> staged) {
+        for (StagedFile file : staged) {
+            fileStorageService.discardStagedFile(file);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        TaskExecutors.shutdown(executor);
+    }
+}
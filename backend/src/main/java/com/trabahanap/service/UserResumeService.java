@@ -3,7 +3,7 @@ package com.trabahanap.service;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.core.io.Resource;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -12,21 +12,26 @@ import com.trabahanap.dto.response.UserResumeDTO;
 import com.trabahanap.exception.ResourceNotFoundException;
 import com.trabahanap.model.User;
 import com.trabahanap.model.UserResume;
+import com.trabahanap.repository.JobApplicationRepository;
 import com.trabahanap.repository.UserRepository;
 import com.trabahanap.repository.UserResumeRepository;
 
 @Service
+@Timed("trabahanap.service")
 public class UserResumeService {
 
     private final UserResumeRepository userResumeRepository;
     private final UserRepository userRepository;
+    private final JobApplicationRepository applicationRepository;
     private final FileStorageService fileStorageService;
 
     public UserResumeService(UserResumeRepository userResumeRepository,
             UserRepository userRepository,
+            JobApplicationRepository applicationRepository,
             FileStorageService fileStorageService) {
         this.userResumeRepository = userResumeRepository;
         this.userRepository = userRepository;
+        this.applicationRepository = applicationRepository;
         this.fileStorageService = fileStorageService;
     }
 
@@ -42,9 +47,8 @@ public class UserResumeService {
         // Validate file
         validateResumeFile(file);
 
-        // Store file in uploads/resumes/user_{userId}/
-        String subDirectory = "resumes/user_" + userId;
-        String filePath = fileStorageService.storeFile(file, subDirectory);
+        // Store file content (deduplicated by content hash)
+        String filePath = fileStorageService.storeFile(file);
 
         // Create UserResume entity
         UserResume resume = new UserResume();
@@ -116,8 +120,13 @@ public class UserResumeService {
         // Verify ownership
         UserResume resume = getResume(resumeId, userId);
 
-        // Delete file from storage (local or R2)
-        fileStorageService.deleteFile(resume.getFilePath());
+        // Release the stored file (local or R2). Files stored before blobs were
+        // reference counted are kept while an application still links to them.
+        String filePath = resume.getFilePath();
+        if (fileStorageService.isReferenceCounted(filePath)
+                || !applicationRepository.existsByResumePath(filePath)) {
+            fileStorageService.deleteFile(filePath);
+        }
 
         // Delete from database
         userResumeRepository.delete(resume);
@@ -137,15 +146,15 @@ public class UserResumeService {
     /**
      * View resume file
      */
-    public Resource viewResume(Long resumeId, Long userId) {
+    public StoredFile viewResume(Long resumeId, Long userId) {
         UserResume resume = getResume(resumeId, userId);
-        return fileStorageService.loadFileAsResource(resume.getFilePath());
+        return fileStorageService.openFile(resume.getFilePath());
     }
 
     /**
      * Download resume file
      */
-    public Resource downloadResume(Long resumeId, Long userId) {
+    public StoredFile downloadResume(Long resumeId, Long userId) {
         return viewResume(resumeId, userId);
     }
 
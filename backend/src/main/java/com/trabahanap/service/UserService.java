@@ -4,6 +4,7 @@ import com.trabahanap.dto.request.ProfileUpdateRequest;
 import com.trabahanap.exception.ResourceNotFoundException;
 import com.trabahanap.model.User;
 import com.trabahanap.repository.UserRepository;
+import com.trabahanap.security.UserPrincipalCache;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -21,6 +22,9 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserPrincipalCache principalCache;
+
     /**
      * Get user profile.
      */
@@ -74,6 +78,7 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        principalCache.evictUser(userId);
 
         // Create response
         Map<String, Object> response = new HashMap<>();
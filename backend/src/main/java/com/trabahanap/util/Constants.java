@@ -34,6 +34,13 @@ public final class Constants {
     // === Pagination Defaults ===
     public static final int DEFAULT_PAGE_SIZE = 10;
     public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BULK_UPDATE_SIZE = 500;
+
+    // === Job Listings ===
+    public static final int JOB_SNIPPET_LENGTH = 140;
+
+    // === Applications ===
+    public static final int COVER_LETTER_SNIPPET_LENGTH = 200;
 
     // === JWT ===
     public static final String TOKEN_PREFIX = "Bearer ";
@@ -0,0 +1,71 @@
+package com.trabahanap.util;
+
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.trabahanap.service.StoredFile;
+
+/**
+ * Builds streaming file download responses with single-range support.
+ */
+public final class FileDownloads {
+
+    private FileDownloads() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Stream a stored file, honouring a single "Range: bytes=..." request header.
+     * Multi-range or malformed headers are ignored and the full file is sent.
+     *
+     * @param file        The file to send
+     * @param rangeHeader The request's Range header, may be null
+     * @param headers     Response headers (content type, disposition, ...)
+     */
+    public static ResponseEntity<StreamingResponseBody> stream(StoredFile file, String rangeHeader,
+            HttpHeaders headers) {
+        long size = file.getContentLength();
+        long start = 0;
+        long end = size - 1;
+        HttpStatus status = HttpStatus.OK;
+
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        List<HttpRange> ranges = parseRanges(rangeHeader);
+        if (ranges.size() == 1) {
+            start = ranges.get(0).getRangeStart(size);
+            end = ranges.get(0).getRangeEnd(size);
+            if (start >= size || start > end) {
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .headers(headers)
+                        .build();
+            }
+            status = HttpStatus.PARTIAL_CONTENT;
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+
+        long offset = start;
+        long length = Math.max(0, end - start + 1);
+        headers.setContentLength(length);
+
+        StreamingResponseBody body = out -> file.transferTo(out, offset, length);
+        return ResponseEntity.status(status).headers(headers).body(body);
+    }
+
+    private static List<HttpRange> parseRanges(String rangeHeader) {
+        if (rangeHeader == null || rangeHeader.isBlank()) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.trabahanap.util;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Creates the small executors owned by services (upload staging, SSE delivery).
+ * When virtual threads are enabled (spring.threads.virtual.enabled=true on
+ * Java 21+) each task gets its own virtual thread; otherwise a bounded
+ * platform thread pool is used.
+ */
+public final class TaskExecutors {
+
+    private TaskExecutors() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Create an executor for blocking I/O tasks.
+     *
+     * @param environment      Used to check whether virtual threads are enabled
+     * @param threadNamePrefix Thread name prefix
+     * @param poolSize         Platform pool size (ignored for virtual threads)
+     * @param queueCapacity    Platform pool queue capacity (ignored for virtual threads)
+     * @param rejectionPolicy  What the platform pool does when saturated
+     */
+    public static AsyncTaskExecutor create(Environment environment, String threadNamePrefix, int poolSize,
+            int queueCapacity, RejectedExecutionHandler rejectionPolicy) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(rejectionPolicy);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Rejection policy that makes the submitting thread wait for queue space,
+     * for callers that must not run the task themselves.
+     */
+    public static RejectedExecutionHandler waitForQueueSpace() {
+        return (task, pool) -> {
+            if (pool.isShutdown()) {
+                throw new RejectedExecutionException("Executor is shut down");
+            }
+            try {
+                pool.getQueue().put(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for queue space", e);
+            }
+        };
+    }
+
+    /**
+     * Stop an executor created by {@link #create}.
+     */
+    public static void shutdown(AsyncTaskExecutor executor) {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor simple) {
+            simple.close();
+        }
+    }
+}
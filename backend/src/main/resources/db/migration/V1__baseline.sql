@@ -0,0 +1,86 @@
+-- Baseline schema, matching what ddl-auto=update produced before migrations
+-- were introduced. Existing databases are baselined at this version
+-- (spring.flyway.baseline-on-migrate) and start from V2.
+
+CREATE TABLE roles (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(20) CHECK (name IN ('ROLE_USER', 'ROLE_EMPLOYER', 'ROLE_ADMIN')),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    username VARCHAR(255) UNIQUE,
+    email VARCHAR(255) UNIQUE,
+    password VARCHAR(255),
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    phone VARCHAR(255),
+    phone_number VARCHAR(255),
+    location VARCHAR(255),
+    bio VARCHAR(1000),
+    profile_picture VARCHAR(255),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL,
+    role_id INTEGER NOT NULL,
+    PRIMARY KEY (role_id, user_id),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_roles_role FOREIGN KEY (role_id) REFERENCES roles (id)
+);
+
+CREATE TABLE jobs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    title VARCHAR(255),
+    company VARCHAR(255),
+    location VARCHAR(255),
+    job_type VARCHAR(255),
+    description VARCHAR(255),
+    requirements VARCHAR(255),
+    salary FLOAT(53),
+    posted_by BIGINT NOT NULL,
+    created_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_jobs_posted_by FOREIGN KEY (posted_by) REFERENCES users (id)
+);
+
+CREATE TABLE job_applications (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    job_id BIGINT NOT NULL,
+    applicant_id BIGINT NOT NULL,
+    cover_letter_text VARCHAR(2000),
+    cover_letter_path VARCHAR(255),
+    resume_path VARCHAR(255),
+    status VARCHAR(255) CHECK (status IN ('PENDING', 'REVIEWED', 'ACCEPTED', 'REJECTED')),
+    applied_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_job_applications_job FOREIGN KEY (job_id) REFERENCES jobs (id),
+    CONSTRAINT fk_job_applications_applicant FOREIGN KEY (applicant_id) REFERENCES users (id)
+);
+
+CREATE TABLE saved_jobs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id BIGINT NOT NULL,
+    job_id BIGINT NOT NULL,
+    saved_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_saved_jobs_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_saved_jobs_job FOREIGN KEY (job_id) REFERENCES jobs (id)
+);
+
+CREATE TABLE user_resumes (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id BIGINT NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    file_path VARCHAR(500) NOT NULL,
+    file_size BIGINT,
+    is_default BOOLEAN,
+    uploaded_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_user_resumes_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
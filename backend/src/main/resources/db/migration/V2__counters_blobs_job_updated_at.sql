@@ -0,0 +1,26 @@
+-- Tables and columns added after the baseline. IF NOT EXISTS because databases
+-- that ran those versions under ddl-auto=update already have them.
+
+CREATE TABLE IF NOT EXISTS job_application_counters (
+    job_id BIGINT NOT NULL,
+    employer_id BIGINT NOT NULL,
+    total BIGINT NOT NULL,
+    pending BIGINT NOT NULL,
+    reviewed BIGINT NOT NULL,
+    accepted BIGINT NOT NULL,
+    rejected BIGINT NOT NULL,
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (job_id)
+);
+
+CREATE TABLE IF NOT EXISTS stored_blobs (
+    digest VARCHAR(64) NOT NULL,
+    storage_key VARCHAR(500) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    content_type VARCHAR(255),
+    ref_count BIGINT NOT NULL,
+    created_at TIMESTAMP(6),
+    PRIMARY KEY (digest)
+);
+
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6);
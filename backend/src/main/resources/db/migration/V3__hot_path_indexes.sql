@@ -0,0 +1,72 @@
+-- Indexes and unique constraints for the hot query paths.
+
+-- Employer job lists and stats: WHERE posted_by = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_jobs_posted_by_created_at ON jobs (posted_by, created_at, id);
+
+-- Public job feed keyset: ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_jobs_created_at_id ON jobs (created_at, id);
+
+-- Duplicate applications left by concurrent applies. Keep one per seeker and job:
+-- one the employer has already acted on (not PENDING) if any, else the earliest.
+-- The removed rows' file references are released and the per-job counters recounted.
+CREATE TABLE duplicate_applications AS
+SELECT ja.id, ja.cover_letter_path, ja.resume_path
+FROM job_applications ja
+WHERE EXISTS (SELECT 1 FROM job_applications keep
+              WHERE keep.job_id = ja.job_id
+                AND keep.applicant_id = ja.applicant_id
+                AND ((COALESCE(keep.status, 'PENDING') <> 'PENDING' AND COALESCE(ja.status, 'PENDING') = 'PENDING')
+                     OR ((COALESCE(keep.status, 'PENDING') = 'PENDING') = (COALESCE(ja.status, 'PENDING') = 'PENDING')
+                         AND keep.id < ja.id)));
+
+UPDATE stored_blobs
+SET ref_count = ref_count
+    - (SELECT COUNT(*) FROM duplicate_applications d WHERE d.cover_letter_path = stored_blobs.storage_key)
+    - (SELECT COUNT(*) FROM duplicate_applications d WHERE d.resume_path = stored_blobs.storage_key);
+
+DELETE FROM job_applications WHERE id IN (SELECT id FROM duplicate_applications);
+
+DROP TABLE duplicate_applications;
+
+UPDATE job_application_counters
+SET total = (SELECT COUNT(*) FROM job_applications ja
+             WHERE ja.job_id = job_application_counters.job_id),
+    pending = (SELECT COUNT(*) FROM job_applications ja
+               WHERE ja.job_id = job_application_counters.job_id AND ja.status = 'PENDING'),
+    reviewed = (SELECT COUNT(*) FROM job_applications ja
+                WHERE ja.job_id = job_application_counters.job_id AND ja.status = 'REVIEWED'),
+    accepted = (SELECT COUNT(*) FROM job_applications ja
+                WHERE ja.job_id = job_application_counters.job_id AND ja.status = 'ACCEPTED'),
+    rejected = (SELECT COUNT(*) FROM job_applications ja
+                WHERE ja.job_id = job_application_counters.job_id AND ja.status = 'REJECTED');
+
+-- One application per seeker and job; also serves lookups by job_id
+-- (existsByJobIdAndApplicantId, per-job counts)
+ALTER TABLE job_applications
+    ADD CONSTRAINT uk_job_applications_job_applicant UNIQUE (job_id, applicant_id);
+
+-- Seeker's applications: WHERE applicant_id = ? ORDER BY applied_at DESC
+CREATE INDEX idx_job_applications_applicant_applied_at ON job_applications (applicant_id, applied_at);
+
+-- Drop duplicate saved-job rows left by concurrent saves before adding the constraint
+DELETE FROM saved_jobs
+WHERE EXISTS (SELECT 1 FROM saved_jobs earlier
+              WHERE earlier.user_id = saved_jobs.user_id
+                AND earlier.job_id = saved_jobs.job_id
+                AND earlier.id < saved_jobs.id);
+
+-- One saved row per user and job (existsByUserIdAndJobId, deleteByUserIdAndJobId)
+ALTER TABLE saved_jobs
+    ADD CONSTRAINT uk_saved_jobs_user_job UNIQUE (user_id, job_id);
+
+-- Saved-jobs list: WHERE user_id = ? ORDER BY saved_at DESC, id DESC
+CREATE INDEX idx_saved_jobs_user_saved_at ON saved_jobs (user_id, saved_at, id);
+
+-- Saved rows referencing a job (job deletion)
+CREATE INDEX idx_saved_jobs_job ON saved_jobs (job_id);
+
+-- Default resume lookup and per-user resume lists
+CREATE INDEX idx_user_resumes_user_default ON user_resumes (user_id, is_default);
+
+-- Employer stats from counters: WHERE employer_id = ?
+CREATE INDEX idx_job_application_counters_employer ON job_application_counters (employer_id);
@@ -0,0 +1,3 @@
+-- Employer inbox keyset: applications of the employer's jobs ORDER BY applied_at DESC, id DESC,
+-- optionally for one job
+CREATE INDEX idx_job_applications_job_applied_at ON job_applications (job_id, applied_at, id);
@@ -0,0 +1,2 @@
+-- Uploads staged but not yet committed, so content is never deleted from under them
+ALTER TABLE stored_blobs ADD COLUMN IF NOT EXISTS pending_count BIGINT NOT NULL DEFAULT 0;
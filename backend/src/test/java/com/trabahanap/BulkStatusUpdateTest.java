@@ -0,0 +1,156 @@
+package com.trabahanap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.trabahanap.dto.response.BulkStatusUpdateDTO;
+import com.trabahanap.dto.response.BulkStatusUpdateDTO.Outcome;
+import com.trabahanap.util.Constants;
+
+/**
+ * PUT /api/applications/bulk-update-status: per-id outcomes, ownership,
+ * duplicate ids and the request size cap.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BulkStatusUpdateTest extends IntegrationTest {
+
+    private static final String PATH = "/api/applications/bulk-update-status";
+    private static final String PASSWORD = "secret123";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    private String employerToken;
+    private String otherEmployerToken;
+    private Long pendingId;
+    private Long reviewedId;
+    private Long otherEmployersId;
+
+    @BeforeAll
+    void setUp() {
+        employerToken = signUp("bulk-emp", List.of("employer"));
+        otherEmployerToken = signUp("bulk-other-emp", List.of("employer"));
+        Long jobId = postJob(employerToken);
+        Long otherJobId = postJob(otherEmployerToken);
+
+        pendingId = apply(signUp("bulk-seek-1", null), jobId);
+        reviewedId = apply(signUp("bulk-seek-2", null), jobId);
+        otherEmployersId = apply(signUp("bulk-seek-3", null), otherJobId);
+
+        ResponseEntity<Map> reviewed = rest.exchange("/api/applications/update-status/" + reviewedId,
+                HttpMethod.PUT, new HttpEntity<>(Map.of("status", "REVIEWED"), auth(employerToken)), Map.class);
+        assertThat(reviewed.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void reportsAnOutcomePerDistinctId() {
+        Long missingId = 999_999L;
+        List<Long> ids = List.of(pendingId, reviewedId, otherEmployersId, missingId, pendingId);
+
+        ResponseEntity<BulkStatusUpdateDTO> response = bulkUpdate(employerToken, ids, "REVIEWED");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        BulkStatusUpdateDTO result = response.getBody();
+        assertThat(result.status()).isEqualTo("REVIEWED");
+        assertThat(result.updatedCount()).isEqualTo(1);
+        assertThat(result.results())
+                .extracting(BulkStatusUpdateDTO.Item::applicationId, BulkStatusUpdateDTO.Item::outcome)
+                .containsExactly(
+                        tuple(pendingId, Outcome.UPDATED),
+                        tuple(reviewedId, Outcome.UNCHANGED),
+                        tuple(otherEmployersId, Outcome.FORBIDDEN),
+                        tuple(missingId, Outcome.NOT_FOUND));
+
+        assertThat(status(employerToken, pendingId)).isEqualTo("REVIEWED");
+        assertThat(status(otherEmployerToken, otherEmployersId)).isEqualTo("PENDING");
+    }
+
+    @Test
+    void rejectsMoreIdsThanTheCap() {
+        List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1, Constants.MAX_BULK_UPDATE_SIZE + 1)
+                .map(id -> id + 1_000_000L).boxed().toList());
+
+        ResponseEntity<BulkStatusUpdateDTO> response = bulkUpdate(employerToken, ids, "ACCEPTED");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void acceptsExactlyTheCap() {
+        List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1, Constants.MAX_BULK_UPDATE_SIZE)
+                .map(id -> id + 1_000_000L).boxed().toList());
+
+        ResponseEntity<BulkStatusUpdateDTO> response = bulkUpdate(employerToken, ids, "ACCEPTED");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().updatedCount()).isZero();
+        assertThat(response.getBody().results()).hasSize(Constants.MAX_BULK_UPDATE_SIZE)
+                .allMatch(item -> item.outcome() == Outcome.NOT_FOUND);
+    }
+
+    private ResponseEntity<BulkStatusUpdateDTO> bulkUpdate(String token, List<Long> ids, String status) {
+        return rest.exchange(PATH, HttpMethod.PUT,
+                new HttpEntity<>(Map.of("applicationIds", ids, "status", status), auth(token)),
+                BulkStatusUpdateDTO.class);
+    }
+
+    private String status(String token, Long applicationId) {
+        Map<?, ?> application = rest.exchange("/api/applications/" + applicationId, HttpMethod.GET,
+                new HttpEntity<>(auth(token)), Map.class).getBody();
+        return (String) application.get("status");
+    }
+
+    private Long postJob(String token) {
+        Map<?, ?> job = rest.exchange("/api/jobs", HttpMethod.POST, new HttpEntity<>(Map.of(
+                "title", "QA Engineer",
+                "company", "Acme",
+                "location", "Cebu",
+                "description", "Test the hiring backend",
+                "jobType", "FULL_TIME"), auth(token)), Map.class).getBody();
+        return ((Number) job.get("id")).longValue();
+    }
+
+    private Long apply(String token, Long jobId) {
+        ResponseEntity<Map> applied = rest.exchange("/api/applications/apply", HttpMethod.POST,
+                new HttpEntity<>(Map.of("jobId", jobId, "coverLetterText", "Hello"), auth(token)), Map.class);
+        assertThat(applied.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return ((Number) applied.getBody().get("id")).longValue();
+    }
+
+    private String signUp(String username, List<String> roles) {
+        Map<String, Object> signup = new HashMap<>(Map.of(
+                "username", username,
+                "email", username + "@example.com",
+                "password", PASSWORD));
+        if (roles != null) {
+            signup.put("role", roles);
+        }
+        rest.postForEntity("/api/auth/signup", signup, Map.class);
+        Map<?, ?> login = rest.postForEntity("/api/auth/signin",
+                Map.of("username", username, "password", PASSWORD), Map.class).getBody();
+        return (String) login.get("token");
+    }
+
+    private static HttpHeaders auth(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return headers;
+    }
+}
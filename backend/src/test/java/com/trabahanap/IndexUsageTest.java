@@ -0,0 +1,163 @@
+package com.trabahanap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.trabahanap.repository.JobApplicationCounterRepository;
+import com.trabahanap.repository.JobApplicationRepository;
+import com.trabahanap.repository.JobRepository;
+import com.trabahanap.repository.SavedJobRepository;
+import com.trabahanap.repository.UserResumeRepository;
+
+/**
+ * Checks with EXPLAIN that the hot queries use the indexes added by the
+ * Flyway migrations (V3, V4). Each case calls the repository method and
+ * explains the SQL Hibernate generated for it, with the same bind values.
+ * The plans come from H2, so this catches a missing or unusable index rather
+ * than proving the PostgreSQL planner's choice. The tables are seeded and
+ * analyzed first, since on empty tables H2 treats every index on the column
+ * as equal.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IndexUsageTest extends IntegrationTest {
+
+    // First page of a keyset query
+    private static final LocalDateTime CURSOR = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobApplicationRepository applicationRepository;
+
+    @Autowired
+    private SavedJobRepository savedJobRepository;
+
+    @Autowired
+    private UserResumeRepository userResumeRepository;
+
+    @Autowired
+    private JobApplicationCounterRepository counterRepository;
+
+    @BeforeAll
+    void seed() {
+        // H2 backs each foreign key with its own single-column index, which PostgreSQL does
+        // not, and prefers it over the V3 composites. Drop those two for this class so the
+        // plans reflect the PostgreSQL index set; restored in restoreForeignKeys()
+        jdbcTemplate.execute("ALTER TABLE jobs DROP CONSTRAINT fk_jobs_posted_by");
+        jdbcTemplate.execute("ALTER TABLE job_applications DROP CONSTRAINT fk_job_applications_applicant");
+
+        // 50 users, 2000 jobs, 10000 applications, 5000 saved jobs; ids from 1001
+        jdbcTemplate.execute("INSERT INTO users (id, username, email) "
+                + "SELECT 1000 + X, 'seed' || X, 'seed' || X || '@example.com' FROM SYSTEM_RANGE(1, 50)");
+        jdbcTemplate.execute("INSERT INTO jobs (id, title, posted_by, created_at) "
+                + "SELECT 1000 + X, 'Job ' || X, 1001 + MOD(X, 50), "
+                + "DATEADD('MINUTE', X, TIMESTAMP '2025-01-01 00:00:00') FROM SYSTEM_RANGE(1, 2000)");
+        jdbcTemplate.execute("INSERT INTO job_applications (id, job_id, applicant_id, status, applied_at) "
+                + "SELECT 1000 + X, 1001 + MOD(X, 2000), 1001 + X / 2000, 'PENDING', "
+                + "DATEADD('MINUTE', X, TIMESTAMP '2025-01-01 00:00:00') FROM SYSTEM_RANGE(1, 10000)");
+        jdbcTemplate.execute("INSERT INTO saved_jobs (id, user_id, job_id, saved_at) "
+                + "SELECT 1000 + X, 1001 + MOD(X, 50), 1001 + X / 50, "
+                + "DATEADD('MINUTE', X, TIMESTAMP '2025-01-01 00:00:00') FROM SYSTEM_RANGE(1, 5000)");
+        jdbcTemplate.execute("INSERT INTO user_resumes (id, user_id, file_name, file_path, is_default) "
+                + "SELECT 1000 + X, 1001 + MOD(X, 50), 'resume.pdf', 'resumes/' || X, X <= 50 "
+                + "FROM SYSTEM_RANGE(1, 500)");
+        jdbcTemplate.execute("INSERT INTO job_application_counters "
+                + "(job_id, employer_id, total, pending, reviewed, accepted, rejected) "
+                + "SELECT 1000 + X, 1001 + MOD(X, 50), 5, 5, 0, 0, 0 FROM SYSTEM_RANGE(1, 2000)");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void restoreForeignKeys() {
+        jdbcTemplate.execute("ALTER TABLE jobs ADD CONSTRAINT fk_jobs_posted_by "
+                + "FOREIGN KEY (posted_by) REFERENCES users (id)");
+        jdbcTemplate.execute("ALTER TABLE job_applications ADD CONSTRAINT fk_job_applications_applicant "
+                + "FOREIGN KEY (applicant_id) REFERENCES users (id)");
+    }
+
+    @Test
+    void jobFeedPageUsesCreatedAtIndex() {
+        assertUsesIndex(() -> jobRepository.findJobFeedPage(null, null, null, null,
+                CURSOR, Long.MAX_VALUE, PageRequest.of(0, 21)),
+                "IDX_JOBS_CREATED_AT_ID");
+    }
+
+    @Test
+    void employerJobsUsePostedByCreatedAtIndex() {
+        assertUsesIndex(() -> jobRepository.findSummariesByEmployerId(1001L, Limit.of(3)),
+                "IDX_JOBS_POSTED_BY_CREATED_AT");
+    }
+
+    @Test
+    void employerInboxForOneJobUsesJobAppliedAtIndex() {
+        // Job 1001 is posted by user 1002
+        assertUsesIndex(() -> applicationRepository.findEmployerInboxPage(1002L, 1001L, null,
+                CURSOR, Long.MAX_VALUE, PageRequest.of(0, 21)),
+                "IDX_JOB_APPLICATIONS_JOB_APPLIED_AT");
+    }
+
+    @Test
+    void seekerApplicationsUseApplicantAppliedAtIndex() {
+        assertUsesIndex(() -> applicationRepository.findByApplicantIdWithDetails(1001L),
+                "IDX_JOB_APPLICATIONS_APPLICANT_APPLIED_AT");
+    }
+
+    @Test
+    void savedJobsPageUsesUserSavedAtIndex() {
+        assertUsesIndex(() -> savedJobRepository.findSummaryPageByUserId(1001L,
+                CURSOR, Long.MAX_VALUE, PageRequest.of(0, 21)),
+                "IDX_SAVED_JOBS_USER_SAVED_AT");
+    }
+
+    @Test
+    void duplicateApplicationCheckUsesUniqueConstraint() {
+        assertUsesIndex(() -> applicationRepository.existsByJobIdAndApplicantId(1001L, 1002L),
+                "UK_JOB_APPLICATIONS_JOB_APPLICANT");
+    }
+
+    @Test
+    void savedJobCheckUsesUniqueConstraint() {
+        assertUsesIndex(() -> savedJobRepository.existsByUserIdAndJobId(1001L, 1002L),
+                "UK_SAVED_JOBS_USER_JOB");
+    }
+
+    @Test
+    void defaultResumeUsesUserDefaultIndex() {
+        assertUsesIndex(() -> userResumeRepository.findByUserIdAndIsDefaultTrue(1001L),
+                "IDX_USER_RESUMES_USER_DEFAULT");
+    }
+
+    @Test
+    void employerCountersUseEmployerIndex() {
+        assertUsesIndex(() -> counterRepository.findByEmployerIdOrderByJobIdDesc(1001L),
+                "IDX_JOB_APPLICATION_COUNTERS_EMPLOYER");
+    }
+
+    /**
+     * Run the repository call, then EXPLAIN the first statement it issued.
+     */
+    private void assertUsesIndex(Supplier<?> repositoryCall, String index) {
+        List<SqlCapture.Statement> statements = SqlCapture.capture(repositoryCall);
+        assertThat(statements).as("statements issued").isNotEmpty();
+        SqlCapture.Statement statement = statements.get(0);
+        String plan = jdbcTemplate.execute((ConnectionCallback<String>) statement::explain);
+        assertThat(plan.toUpperCase()).as(statement.sql() + "\n" + plan).contains(index);
+    }
+}
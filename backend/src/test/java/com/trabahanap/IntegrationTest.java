@@ -0,0 +1,19 @@
+package com.trabahanap;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Shared setup for tests that boot the whole application on H2. Every
+ * subclass uses this exact configuration, so they all run in one cached
+ * application context (the second-level cache manager is JVM-wide and cannot
+ * be shared by two live contexts).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:integration-test",
+        "app.query-guard.header-enabled=true",
+        "app.upload-dir=target/test-uploads"
+})
+@Import(SqlCapture.class)
+abstract class IntegrationTest {
+}
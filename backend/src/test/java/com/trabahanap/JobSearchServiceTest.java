@@ -0,0 +1,80 @@
+package com.trabahanap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.trabahanap.dto.response.JobDTO;
+import com.trabahanap.dto.response.JobSearchResultDTO;
+import com.trabahanap.event.JobChangedEvent;
+import com.trabahanap.model.Job;
+import com.trabahanap.repository.JobRepository;
+import com.trabahanap.service.JobSearchService;
+
+/**
+ * Index rebuild against job changes that commit while it runs. Uses no
+ * application context; the repository is mocked.
+ */
+class JobSearchServiceTest {
+
+    private static final Long EMPLOYER_ID = 1L;
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final JobSearchService searchService = new JobSearchService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(searchService, "jobRepository", jobRepository);
+    }
+
+    @Test
+    void changesCommittedDuringRebuildWinOverTheBatchReadBeforeThem() {
+        Job updatedLater = job(1L, "Java Developer");
+        Job deletedLater = job(2L, "Cobol Maintainer");
+        when(jobRepository.findFullTextPage(any(), any(), any())).thenAnswer(invocation -> {
+            // Both changes commit after this batch was read, before it is indexed
+            searchService.onJobChanged(JobChangedEvent.updated(EMPLOYER_ID, JobDTO.fromJob(job(1L, "Kotlin Developer"))));
+            searchService.onJobChanged(JobChangedEvent.deleted(EMPLOYER_ID, 2L));
+            return List.of(updatedLater, deletedLater);
+        });
+
+        searchService.rebuildIndex();
+
+        assertThat(search("kotlin")).containsExactly(1L);
+        assertThat(search("java")).isEmpty();
+        assertThat(search("cobol")).isEmpty();
+    }
+
+    @Test
+    void changesAfterRebuildApplyImmediately() {
+        when(jobRepository.findFullTextPage(any(), any(), any())).thenReturn(List.of(job(1L, "Java Developer")));
+        searchService.rebuildIndex();
+
+        searchService.onJobChanged(JobChangedEvent.created(EMPLOYER_ID, JobDTO.fromJob(job(3L, "Java Architect"))));
+
+        assertThat(search("java")).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    private List<Long> search(String query) {
+        return searchService.search(query, null).stream().map(JobSearchResultDTO::getId).toList();
+    }
+
+    private static Job job(Long id, String title) {
+        Job job = new Job();
+        job.setId(id);
+        job.setTitle(title);
+        job.setCompany("Acme");
+        job.setLocation("Manila");
+        job.setDescription("Work on the hiring backend");
+        job.setCreatedAt(LocalDateTime.of(2025, 1, 1, 0, 0));
+        return job;
+    }
+}
@@ -0,0 +1,63 @@
+package com.trabahanap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Runs the Flyway migrations against a database that already holds data the
+ * later versions have to clean up. Uses its own H2 database and no
+ * application context.
+ */
+class MigrationTest {
+
+    private final DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:migration-test;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    @Test
+    void duplicateApplicationsAreRemovedBeforeTheUniqueConstraint() {
+        migrate("2");
+
+        jdbcTemplate.execute("INSERT INTO users (id, username, email) VALUES "
+                + "(1, 'employer', 'employer@example.com'), (2, 'seeker2', 'seeker2@example.com'), "
+                + "(3, 'seeker3', 'seeker3@example.com'), (4, 'seeker4', 'seeker4@example.com')");
+        jdbcTemplate.execute("INSERT INTO jobs (id, title, posted_by, created_at) "
+                + "VALUES (1, 'Job', 1, TIMESTAMP '2025-01-01 00:00:00')");
+        jdbcTemplate.execute("INSERT INTO stored_blobs (digest, storage_key, size_bytes, ref_count) "
+                + "VALUES ('aa11', 'blobs/aa/aa11', 10, 3)");
+        // Seeker 2 applied three times and the employer reviewed the second; seeker 3 twice
+        jdbcTemplate.execute("INSERT INTO job_applications (id, job_id, applicant_id, status, resume_path) VALUES "
+                + "(10, 1, 2, 'PENDING', 'blobs/aa/aa11'), "
+                + "(11, 1, 2, 'REVIEWED', 'blobs/aa/aa11'), "
+                + "(12, 1, 2, 'PENDING', 'blobs/aa/aa11'), "
+                + "(20, 1, 3, 'PENDING', NULL), "
+                + "(21, 1, 3, 'PENDING', NULL), "
+                + "(30, 1, 4, 'PENDING', NULL)");
+        jdbcTemplate.execute("INSERT INTO job_application_counters "
+                + "(job_id, employer_id, total, pending, reviewed, accepted, rejected) "
+                + "VALUES (1, 1, 6, 5, 1, 0, 0)");
+
+        migrate(null);
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM job_applications ORDER BY id", Long.class))
+                .containsExactly(11L, 20L, 30L);
+        assertThat(jdbcTemplate.queryForObject("SELECT ref_count FROM stored_blobs", Long.class))
+                .isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForMap("SELECT total, pending, reviewed FROM job_application_counters"))
+                .containsEntry("TOTAL", 3L)
+                .containsEntry("PENDING", 2L)
+                .containsEntry("REVIEWED", 1L);
+    }
+
+    private void migrate(String target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .target(target == null ? "latest" : target)
+                .load()
+                .migrate();
+    }
+}
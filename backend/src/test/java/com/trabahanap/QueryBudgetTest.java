@@ -0,0 +1,169 @@
+package com.trabahanap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import com.trabahanap.config.QueryCountFilter;
+
+/**
+ * Per-endpoint SQL statement budgets, read from the X-Query-Count header.
+ * Each endpoint is called once before it is measured, so the principal and
+ * entity caches are warm like they are in steady state.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest extends IntegrationTest {
+
+    private static final String PASSWORD = "secret123";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    private String employerToken;
+    private String seekerToken;
+    private Long jobId;
+    private Long applicationId;
+
+    @BeforeAll
+    void setUp() {
+        employerToken = signUp("budget-emp", List.of("employer"));
+        seekerToken = signUp("budget-seek", null);
+
+        Map<?, ?> job = rest.exchange("/api/jobs", HttpMethod.POST, new HttpEntity<>(Map.of(
+                "title", "Java Developer",
+                "company", "Acme",
+                "location", "Manila",
+                "description", "Build and run the hiring backend",
+                "requirements", "Java, SQL",
+                "jobType", "FULL_TIME",
+                "salary", 1000), auth(employerToken)), Map.class).getBody();
+
+        jobId = ((Number) job.get("id")).longValue();
+
+        ResponseEntity<Map> applied = apply(seekerToken);
+        assertThat(applied.getStatusCode()).isEqualTo(HttpStatus.OK);
+        applicationId = ((Number) applied.getBody().get("id")).longValue();
+    }
+
+    @Test
+    void jobFeed() {
+        // One keyset page of summary rows
+        assertThat(queries(HttpMethod.GET, "/api/jobs/feed", null, seekerToken)).isEqualTo(1);
+    }
+
+    @Test
+    void jobFlags() {
+        String path = "/api/jobs/flags?ids=" + jobId + "," + (jobId + 1000);
+        // Served from the user's cached applied/saved job ids
+        assertThat(queries(HttpMethod.GET, path, null, seekerToken)).isEqualTo(0);
+    }
+
+    @Test
+    void employerInbox() {
+        // One keyset page of summary rows, with or without filters
+        assertThat(queries(HttpMethod.GET, "/api/applications/employer/inbox", null, employerToken)).isEqualTo(1);
+        String filtered = "/api/applications/employer/inbox?jobId=" + jobId + "&status=PENDING";
+        assertThat(queries(HttpMethod.GET, filtered, null, employerToken)).isEqualTo(1);
+    }
+
+    @Test
+    void employerDashboard() {
+        // Built on the first call, then served from the in-memory snapshot
+        assertThat(queries(HttpMethod.GET, "/api/employer/dashboard", null, employerToken)).isEqualTo(0);
+    }
+
+    @Test
+    void applyWithResumeUpload() {
+        // A first application warms the caches, as queries() does for repeatable calls
+        apply(signUp("budget-apply-1", null));
+        ResponseEntity<Map> applied = apply(signUp("budget-apply-2", null));
+        assertThat(applied.getStatusCode()).isEqualTo(HttpStatus.OK);
+        // Load the new applicant; check job and duplicate; reserve the resume blob (lock, update);
+        // in the transaction: re-check duplicate, commit the blob (lock, update), insert
+        assertThat(Integer.parseInt(applied.getHeaders().getFirst(QueryCountFilter.HEADER))).isEqualTo(9);
+    }
+
+    @Test
+    void jobStats() {
+        assertThat(queries(HttpMethod.GET, "/api/employer/jobs/stats", null, employerToken)).isEqualTo(2);
+    }
+
+    @Test
+    void updateApplicationStatus() {
+        String path = "/api/applications/update-status/" + applicationId;
+        // Lock, load with job and applicant, update
+        assertThat(queries(HttpMethod.PUT, path, Map.of("status", "REVIEWED"), employerToken)).isEqualTo(3);
+    }
+
+    @Test
+    void viewFile() {
+        String path = "/api/applications/view/" + applicationId + "/resume";
+        assertThat(queries(HttpMethod.GET, path, null, seekerToken)).isEqualTo(1);
+    }
+
+    /**
+     * Call the endpoint twice and return the second call's statement count.
+     */
+    private int queries(HttpMethod method, String path, Object body, String token) {
+        ResponseEntity<byte[]> response = null;
+        for (int i = 0; i < 2; i++) {
+            response = rest.exchange(path, method, new HttpEntity<>(body, auth(token)), byte[].class);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+        String count = response.getHeaders().getFirst(QueryCountFilter.HEADER);
+        assertThat(count).as(QueryCountFilter.HEADER).isNotNull();
+        return Integer.parseInt(count);
+    }
+
+    private ResponseEntity<Map> apply(String token) {
+        MultiValueMap<String, Object> form = new LinkedMultiValueMap<>();
+        form.add("jobId", jobId.toString());
+        form.add("coverLetterText", "Hello");
+        form.add("resumePdf", new ByteArrayResource("%PDF-1.4 resume".getBytes()) {
+            @Override
+            public String getFilename() {
+                return "resume.pdf";
+            }
+        });
+        HttpHeaders headers = auth(token);
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        return rest.exchange("/api/applications/apply", HttpMethod.POST, new HttpEntity<>(form, headers), Map.class);
+    }
+
+    private String signUp(String username, List<String> roles) {
+        Map<String, Object> signup = new HashMap<>(Map.of(
+                "username", username,
+                "email", username + "@example.com",
+                "password", PASSWORD));
+        if (roles != null) {
+            signup.put("role", roles);
+        }
+        rest.postForEntity("/api/auth/signup", signup, Map.class);
+        Map<?, ?> login = rest.postForEntity("/api/auth/signin",
+                Map.of("username", username, "password", PASSWORD), Map.class).getBody();
+        return (String) login.get("token");
+    }
+
+    private static HttpHeaders auth(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return headers;
+    }
+}
@@ -0,0 +1,145 @@
+package com.trabahanap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.trabahanap.config.R2Config;
+import com.trabahanap.repository.StoredBlobRepository;
+import com.trabahanap.service.FileStorageService;
+import com.trabahanap.service.R2StorageService;
+import com.trabahanap.service.StagedFile;
+import com.trabahanap.service.StoredFile;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * Runs the R2 storage path against a local S3-compatible server, using the
+ * clients R2Config builds with the default multipart settings (8 MB threshold
+ * and part size). Uses no application context; blob bookkeeping is mocked.
+ */
+class R2StorageTest {
+
+    private static final String BUCKET = "trabahanap-uploads";
+    private static final int MB = 1024 * 1024;
+
+    private S3StandIn s3;
+    private S3Client s3Client;
+    private S3AsyncClient s3AsyncClient;
+    private R2StorageService r2;
+    private FileStorageService fileStorage;
+
+    @BeforeEach
+    void start(@TempDir Path uploadDir) throws IOException {
+        s3 = new S3StandIn(BUCKET);
+
+        R2Config config = new R2Config();
+        ReflectionTestUtils.setField(config, "endpoint", s3.endpoint());
+        ReflectionTestUtils.setField(config, "accessKey", "test");
+        ReflectionTestUtils.setField(config, "secretKey", "test");
+        ReflectionTestUtils.setField(config, "maxConcurrency", 64);
+        ReflectionTestUtils.setField(config, "multipartThresholdBytes", 8L * MB);
+        ReflectionTestUtils.setField(config, "multipartPartSizeBytes", 8L * MB);
+        s3Client = config.s3Client();
+        s3AsyncClient = config.s3AsyncClient();
+
+        r2 = new R2StorageService(s3Client, s3AsyncClient, BUCKET, "", 8);
+        fileStorage = new FileStorageService("r2", uploadDir.toString(), Optional.of(r2),
+                mock(StoredBlobRepository.class), new SimpleMeterRegistry(), mock(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void stop() {
+        r2.shutdown();
+        s3AsyncClient.close();
+        s3Client.close();
+        s3.close();
+    }
+
+    @Test
+    void fileBelowThresholdIsSentInOnePut() {
+        byte[] content = content(MB);
+
+        r2.putObjectAsync("small.pdf", pdf(content)).join();
+
+        assertThat(s3.requests("small.pdf"))
+                .extracting(S3StandIn.Request::method, S3StandIn.Request::query)
+                .containsExactly(tuple("PUT", ""));
+        assertThat(s3.object("small.pdf")).isEqualTo(content);
+    }
+
+    @Test
+    void fileAboveThresholdIsSentAsMultipartUpload() {
+        byte[] content = content(20 * MB);
+
+        r2.putObjectAsync("large.pdf", pdf(content)).join();
+
+        List<S3StandIn.Request> requests = s3.requests("large.pdf");
+        assertThat(requests).filteredOn(request -> request.query().contains("uploads"))
+                .extracting(S3StandIn.Request::method).containsExactly("POST");
+        assertThat(requests).filteredOn(request -> request.query().contains("partNumber="))
+                .extracting(S3StandIn.Request::method).containsExactly("PUT", "PUT", "PUT");
+        assertThat(requests).filteredOn(request -> request.method().equals("PUT") && request.query().isEmpty())
+                .isEmpty();
+        assertThat(s3.object("large.pdf")).isEqualTo(content);
+    }
+
+    @Test
+    void alreadyStoredBlobIsNotUploadedAgain() {
+        byte[] content = content(MB);
+
+        StagedFile first = fileStorage.stageFileAsync(pdf(content), Runnable::run).join();
+        StagedFile second = fileStorage.stageFileAsync(pdf(content), Runnable::run).join();
+
+        assertThat(second.getBlobKey()).isEqualTo(first.getBlobKey());
+        assertThat(s3.requests(first.getBlobKey()))
+                .extracting(S3StandIn.Request::method)
+                .containsExactly("HEAD", "PUT", "HEAD");
+        assertThat(s3.object(first.getBlobKey())).isEqualTo(content);
+    }
+
+    @Test
+    void rangedDownloadFetchesOnlyTheRequestedBytes() throws IOException {
+        byte[] content = content(MB);
+        r2.putObjectAsync("resume.pdf", pdf(content)).join();
+
+        StoredFile file = r2.openFile("resume.pdf");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        file.transferTo(out, 1000, 5000);
+
+        assertThat(file.getContentLength()).isEqualTo(content.length);
+        assertThat(out.toByteArray()).isEqualTo(Arrays.copyOfRange(content, 1000, 6000));
+        assertThat(s3.requests("resume.pdf"))
+                .filteredOn(request -> request.method().equals("GET"))
+                .extracting(S3StandIn.Request::range)
+                .containsExactly("bytes=1000-5999");
+    }
+
+    private static MockMultipartFile pdf(byte[] content) {
+        return new MockMultipartFile("file", "upload.pdf", "application/pdf", content);
+    }
+
+    private static byte[] content(int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        return content;
+    }
+}
@@ -0,0 +1,268 @@
+package com.trabahanap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process S3-compatible server for storage tests. Speaks enough of the S3
+ * REST API for the calls R2StorageService makes (path-style HEAD/GET/PUT/DELETE,
+ * ranged GET and multipart uploads) and records every request it receives.
+ * Request signatures are not checked.
+ */
+class S3StandIn implements AutoCloseable {
+
+    /**
+     * A request as seen by the server; key is empty for bucket-level requests.
+     */
+    record Request(String method, String key, String query, String range) {
+    }
+
+    private final String bucket;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, SortedMap<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final List<Request> requests = Collections.synchronizedList(new ArrayList<>());
+
+    S3StandIn(String bucket) throws IOException {
+        this.bucket = bucket;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    String endpoint() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    byte[] object(String key) {
+        return objects.get(key);
+    }
+
+    /**
+     * Requests received so far for the given object key.
+     */
+    List<Request> requests(String key) {
+        synchronized (requests) {
+            return requests.stream().filter(request -> request.key().equals(key)).toList();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            URI uri = exchange.getRequestURI();
+            String path = URLDecoder.decode(uri.getRawPath(), StandardCharsets.UTF_8).substring(1);
+            String query = uri.getRawQuery() == null ? "" : uri.getRawQuery();
+            String method = exchange.getRequestMethod();
+            if (!path.equals(bucket) && !path.startsWith(bucket + "/")) {
+                error(exchange, 404, "NoSuchBucket");
+                return;
+            }
+            String key = path.length() > bucket.length() ? path.substring(bucket.length() + 1) : "";
+            String range = exchange.getRequestHeaders().getFirst("Range");
+            requests.add(new Request(method, key, query, range));
+
+            if (key.isEmpty()) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            switch (method) {
+                case "HEAD" -> head(exchange, key);
+                case "GET" -> get(exchange, key, range);
+                case "PUT" -> put(exchange, key, parameters(query));
+                case "POST" -> post(exchange, key, parameters(query));
+                case "DELETE" -> delete(exchange, key, parameters(query));
+                default -> error(exchange, 405, "MethodNotAllowed");
+            }
+        }
+    }
+
+    private void head(HttpExchange exchange, String key) throws IOException {
+        byte[] content = objects.get(key);
+        if (content == null) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Length", Long.toString(content.length));
+        exchange.getResponseHeaders().set("ETag", etag(content));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void get(HttpExchange exchange, String key, String range) throws IOException {
+        byte[] content = objects.get(key);
+        if (content == null) {
+            error(exchange, 404, "NoSuchKey");
+            return;
+        }
+        exchange.getResponseHeaders().set("ETag", etag(content));
+        if (range == null) {
+            send(exchange, 200, content);
+            return;
+        }
+        String[] bounds = range.substring("bytes=".length()).split("-");
+        int first = Integer.parseInt(bounds[0]);
+        int last = Math.min(Integer.parseInt(bounds[1]), content.length - 1);
+        exchange.getResponseHeaders().set("Content-Range", "bytes " + first + "-" + last + "/" + content.length);
+        byte[] part = new byte[last - first + 1];
+        System.arraycopy(content, first, part, 0, part.length);
+        send(exchange, 206, part);
+    }
+
+    private void put(HttpExchange exchange, String key, Map<String, String> parameters) throws IOException {
+        byte[] content = body(exchange);
+        String uploadId = parameters.get("uploadId");
+        if (uploadId != null) {
+            SortedMap<Integer, byte[]> parts = uploads.get(uploadId);
+            if (parts == null) {
+                error(exchange, 404, "NoSuchUpload");
+                return;
+            }
+            parts.put(Integer.parseInt(parameters.get("partNumber")), content);
+        } else {
+            objects.put(key, content);
+        }
+        exchange.getResponseHeaders().set("ETag", etag(content));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void post(HttpExchange exchange, String key, Map<String, String> parameters) throws IOException {
+        body(exchange);
+        if (parameters.containsKey("uploads")) {
+            String uploadId = UUID.randomUUID().toString();
+            uploads.put(uploadId, new ConcurrentSkipListMap<>());
+            send(exchange, 200, xml("<InitiateMultipartUploadResult><Bucket>" + bucket + "</Bucket><Key>" + key
+                    + "</Key><UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>"));
+            return;
+        }
+        SortedMap<Integer, byte[]> parts = uploads.remove(parameters.getOrDefault("uploadId", ""));
+        if (parts == null) {
+            error(exchange, 404, "NoSuchUpload");
+            return;
+        }
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        ByteArrayOutputStream partDigests = new ByteArrayOutputStream();
+        for (byte[] part : parts.values()) {
+            content.writeBytes(part);
+            partDigests.writeBytes(md5(part));
+        }
+        objects.put(key, content.toByteArray());
+        // Multipart ETags are the MD5 of the part MD5s plus the part count
+        String etag = "\"" + HexFormat.of().formatHex(md5(partDigests.toByteArray())) + "-" + parts.size() + "\"";
+        send(exchange, 200, xml("<CompleteMultipartUploadResult><Bucket>" + bucket + "</Bucket><Key>" + key
+                + "</Key><ETag>" + etag.replace("\"", "&quot;") + "</ETag></CompleteMultipartUploadResult>"));
+    }
+
+    private void delete(HttpExchange exchange, String key, Map<String, String> parameters) throws IOException {
+        if (parameters.containsKey("uploadId")) {
+            uploads.remove(parameters.get("uploadId"));
+        } else {
+            objects.remove(key);
+        }
+        exchange.sendResponseHeaders(204, -1);
+    }
+
+    /**
+     * Read the request body, decoding aws-chunked framing (signed streaming uploads).
+     */
+    private static byte[] body(HttpExchange exchange) throws IOException {
+        InputStream in = exchange.getRequestBody();
+        String contentHash = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        if (contentHash == null || !contentHash.startsWith("STREAMING-")) {
+            return in.readAllBytes();
+        }
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        while (true) {
+            String header = readLine(in);
+            int size = Integer.parseInt(header.split(";")[0], 16);
+            if (size == 0) {
+                // Trailing headers, if any, end with an empty line
+                while (!readLine(in).isEmpty()) {
+                    // skip
+                }
+                return content.toByteArray();
+            }
+            content.writeBytes(in.readNBytes(size));
+            readLine(in);
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+        return line.toString(StandardCharsets.US_ASCII);
+    }
+
+    private static Map<String, String> parameters(String query) {
+        Map<String, String> parameters = new ConcurrentHashMap<>();
+        for (String pair : query.split("&")) {
+            if (!pair.isEmpty()) {
+                int eq = pair.indexOf('=');
+                String name = eq < 0 ? pair : pair.substring(0, eq);
+                String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+                parameters.put(name, value);
+            }
+        }
+        return parameters;
+    }
+
+    private static void error(HttpExchange exchange, int status, String code) throws IOException {
+        send(exchange, status, xml("<Error><Code>" + code + "</Code><Message>" + code + "</Message></Error>"));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] xml(String document) {
+        return ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + document).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String etag(byte[] content) {
+        return "\"" + HexFormat.of().formatHex(md5(content)) + "\"";
+    }
+
+    private static byte[] md5(byte[] content) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
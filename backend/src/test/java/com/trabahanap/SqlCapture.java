@@ -0,0 +1,127 @@
+package com.trabahanap;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+
+/**
+ * Records the statements the application prepares on the current thread,
+ * with their bind values, so tests can run EXPLAIN on the exact SQL Hibernate
+ * generates for a repository method. Wraps the application DataSource;
+ * nothing is recorded outside {@link #capture}.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+class SqlCapture implements BeanPostProcessor {
+
+    private static final ThreadLocal<List<Statement>> CAPTURED = new ThreadLocal<>();
+
+    /**
+     * A prepared statement and the setter calls that bound its parameters.
+     */
+    record Statement(String sql, List<Binding> bindings) {
+
+        /**
+         * Run EXPLAIN for this statement with the same bind values and return the plan.
+         */
+        String explain(Connection connection) throws SQLException {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (Binding binding : bindings) {
+                    try {
+                        binding.method().invoke(explain, binding.args());
+                    } catch (InvocationTargetException e) {
+                        if (e.getCause() instanceof SQLException cause) {
+                            throw cause;
+                        }
+                        throw new IllegalStateException(e);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                try (ResultSet plan = explain.executeQuery()) {
+                    plan.next();
+                    return plan.getString(1);
+                }
+            }
+        }
+    }
+
+    record Binding(Method method, Object[] args) {
+    }
+
+    /**
+     * Run the action and return the statements it prepared on this thread.
+     */
+    static List<Statement> capture(Supplier<?> action) {
+        List<Statement> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            action.get();
+        } finally {
+            CAPTURED.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = method.invoke(target, args);
+                return result instanceof Connection connection ? connection(connection) : result;
+            });
+        }
+        return bean;
+    }
+
+    private static Connection connection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            List<Statement> statements = CAPTURED.get();
+            if (statements != null && method.getName().equals("prepareStatement")
+                    && result instanceof PreparedStatement prepared) {
+                Statement statement = new Statement((String) args[0], new ArrayList<>());
+                statements.add(statement);
+                return statement(prepared, statement);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement statement(PreparedStatement prepared, Statement statement) {
+        return proxy(PreparedStatement.class, prepared, (target, method, args) -> {
+            if (method.getName().startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer) {
+                statement.bindings().add(new Binding(method, args));
+            }
+            return method.invoke(target, args);
+        });
+    }
+
+    private interface Delegate {
+        Object invoke(Object target, Method method, Object[] args) throws Exception;
+    }
+
+    private static <T> T proxy(Class<T> type, T target, Delegate delegate) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return delegate.invoke(target, method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(SqlCapture.class.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+}
@@ -9,6 +9,7 @@ import {
   HiOutlineEye, HiCalendar
 } from 'react-icons/hi';
 
+import { applicationsAPI } from '../../../../shared/api';
 import { StatusBadge } from '../shared';
 import EmployerApplicationActions from './EmployerApplicationActions';
 
@@ -44,16 +45,29 @@ const EmployerApplicationCard = ({
     }
   };
 
-  const handleViewTextCoverLetter = () => {
-    if (application.coverLetter) {
+  // Inbox rows only carry the start of the text; load all of it to show
+  const handleViewTextCoverLetter = async () => {
+    if (!application.coverLetterSnippet) {
+      return;
+    }
+    try {
+      const { coverLetter } = await applicationsAPI.getApplication(application.id);
       toast({
         title: `Cover Letter - ${application.applicantUsername}`,
-        description: application.coverLetter,
+        description: coverLetter,
         status: 'info',
         duration: 10000,
         isClosable: true,
         position: 'top',
       });
+    } catch (error) {
+      toast({
+        title: 'Error loading cover letter',
+        description: error.message,
+        status: 'error',
+        duration: 5000,
+        isClosable: true,
+      });
     }
   };
 
@@ -207,7 +221,7 @@ const EmployerApplicationCard = ({
                     View
                   </Button>
                 </HStack>
-              ) : application.coverLetter ? (
+              ) : application.coverLetterSnippet ? (
                 <VStack align="stretch" p={3} bg={useColorModeValue('green.50', 'green.900')} borderRadius="md">
                   <HStack justify="space-between">
                     <HStack spacing={2}>
@@ -227,7 +241,7 @@ const EmployerApplicationCard = ({
                     </Button>
                   </HStack>
                   <Text fontSize="xs" color={textColor} noOfLines={2} mt={1}>
-                    "{application.coverLetter}"
+                    "{application.coverLetterSnippet}"
                   </Text>
                 </VStack>
               ) : (
@@ -9,9 +9,9 @@ const EmployerApplicationsFilters = ({
   setStatusFilter,
   jobFilter,
   setJobFilter,
-  applications,
-  filteredApplications,
-  uniqueJobs,
+  loadedCount,
+  hasMore,
+  jobs,
   onRefresh
 }) => {
   const cardBg = useColorModeValue('white', 'gray.800');
@@ -46,15 +46,15 @@ const EmployerApplicationsFilters = ({
               value={jobFilter}
               onChange={(e) => setJobFilter(e.target.value)}
             >
-              {uniqueJobs.map((job, index) => (
-                <option key={index} value={job}>{job}</option>
+              {jobs.map((job) => (
+                <option key={job.id} value={job.id}>{job.title}</option>
               ))}
             </Select>
           </HStack>
 
           <HStack spacing={2} ml="auto">
             <Badge colorScheme="blue" variant="outline">
-              {filteredApplications.length} of {applications.length} applications
+              {loadedCount}{hasMore ? '+' : ''} applications
             </Badge>
             <Button size="sm" variant="outline" onClick={onRefresh}>
               Refresh
@@ -4,19 +4,20 @@ import {
   HiUserCircle, HiClock, HiEye, HiCheckCircle, HiXCircle 
 } from 'react-icons/hi';
 
-const EmployerApplicationsStats = ({ applications }) => {
+const EmployerApplicationsStats = ({ stats: totals }) => {
   const cardBg = useColorModeValue('white', 'gray.800');
   const borderColor = useColorModeValue('gray.200', 'gray.700');
   const textColor = useColorModeValue('gray.800', 'white');
   const mutedColor = useColorModeValue('gray.600', 'gray.400');
 
+  // Totals from /employer/jobs/stats, so they cover every application, not just loaded pages
   const getStatusStats = () => {
     return {
-      total: applications.length,
-      pending: applications.filter(app => app.status?.toUpperCase() === 'PENDING').length,
-      reviewed: applications.filter(app => app.status?.toUpperCase() === 'REVIEWED').length,
-      accepted: applications.filter(app => app.status?.toUpperCase() === 'ACCEPTED').length,
-      rejected: applications.filter(app => app.status?.toUpperCase() === 'REJECTED').length,
+      total: totals?.totalApplications ?? 0,
+      pending: totals?.pendingApplications ?? 0,
+      reviewed: totals?.reviewedApplications ?? 0,
+      accepted: totals?.acceptedApplications ?? 0,
+      rejected: totals?.rejectedApplications ?? 0,
     };
   };
 
@@ -1,8 +1,8 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import {
-  Box, Container, VStack, useToast, useDisclosure
+  Box, Button, Container, Flex, VStack, useToast, useDisclosure
 } from '@chakra-ui/react';
-import { applicationsAPI } from '../../../shared/api';
+import { applicationsAPI, jobManagementAPI } from '../../../shared/api';
 import PDFViewerModal from '../../../shared/components/ui/PDFViewerModal';
 
 import {
@@ -13,26 +13,100 @@ import {
   EmptyEmployerApplicationsState
 } from '../components/employer';
 
+const PAGE_SIZE = 20;
+
 const EmployerApplications = () => {
   const [applications, setApplications] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [stats, setStats] = useState(null);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [selectedPDF, setSelectedPDF] = useState(null);
   const [pdfTitle, setPdfTitle] = useState('');
   const [statusFilter, setStatusFilter] = useState('');
   const [jobFilter, setJobFilter] = useState('');
+  const [jobs, setJobs] = useState([]);
+  // Only the latest first-page request may replace the list
+  const requestId = useRef(0);
   
   const { isOpen: pdfIsOpen, onOpen: pdfOnOpen, onClose: pdfOnClose } = useDisclosure();
   const toast = useToast();
 
   useEffect(() => {
-    fetchApplications();
+    fetchJobs();
   }, []);
 
+  // Filters are applied by the server; changing one starts again from the first page
+  useEffect(() => {
+    fetchApplications();
+  }, [statusFilter, jobFilter]);
+
+  const filterParams = () => ({
+    status: statusFilter || undefined,
+    jobId: jobFilter || undefined
+  });
+
+  const fetchJobs = async () => {
+    try {
+      setJobs(await jobManagementAPI.getEmployerJobs());
+    } catch (error) {
+      console.error('Failed to load jobs for the filter:', error);
+    }
+  };
+
+  // Totals for all applications, not just the pages loaded so far
+  const fetchStats = async () => {
+    try {
+      setStats(await jobManagementAPI.getJobStats());
+    } catch (error) {
+      console.error('Failed to load application stats:', error);
+    }
+  };
+
   const fetchApplications = async () => {
+    const id = ++requestId.current;
     try {
       setLoading(true);
-      const data = await applicationsAPI.getEmployerApplications();
-      setApplications(data);
+      setNextCursor(null);
+      const [page] = await Promise.all([
+        applicationsAPI.getEmployerInbox({ size: PAGE_SIZE, ...filterParams() }),
+        fetchStats()
+      ]);
+      if (id !== requestId.current) {
+        return;
+      }
+      setApplications(page.items);
+      setNextCursor(page.nextCursor);
+    } catch (error) {
+      if (id !== requestId.current) {
+        return;
+      }
+      toast({
+        title: 'Error fetching applications',
+        description: error.message,
+        status: 'error',
+        duration: 5000,
+        isClosable: true,
+      });
+    } finally {
+      if (id === requestId.current) {
+        setLoading(false);
+      }
+    }
+  };
+
+  const loadMore = async () => {
+    const id = requestId.current;
+    try {
+      setLoadingMore(true);
+      const page = await applicationsAPI.getEmployerInbox({
+        cursor: nextCursor, size: PAGE_SIZE, ...filterParams()
+      });
+      if (id !== requestId.current) {
+        return;
+      }
+      setApplications(prev => [...prev, ...page.items]);
+      setNextCursor(page.nextCursor);
     } catch (error) {
       toast({
         title: 'Error fetching applications',
@@ -42,22 +116,25 @@ const EmployerApplications = () => {
         isClosable: true,
       });
     } finally {
-      setLoading(false);
+      setLoadingMore(false);
     }
   };
 
   const handleStatusUpdate = async (applicationId, newStatus) => {
     try {
-      // Optimistic update
+      // Optimistic update; drop the row if it no longer matches the status filter
       setApplications(prevApplications =>
-        prevApplications.map(app =>
-          app.id === applicationId
-            ? { ...app, status: newStatus }
-            : app
-        )
+        prevApplications
+          .map(app =>
+            app.id === applicationId
+              ? { ...app, status: newStatus }
+              : app
+          )
+          .filter(app => !statusFilter || app.status === statusFilter)
       );
 
       await applicationsAPI.updateApplicationStatus(applicationId, newStatus);
+      fetchStats();
 
       toast({
         title: 'Status Updated',
@@ -136,24 +213,8 @@ const EmployerApplications = () => {
     });
   };
 
-  const getFilteredApplications = () => {
-    let filtered = applications;
-
-    if (statusFilter) {
-      filtered = filtered.filter(app => app.status === statusFilter);
-    }
-
-    if (jobFilter) {
-      filtered = filtered.filter(app => app.jobTitle === jobFilter);
-    }
-
-    return filtered;
-  };
-
-  const filteredApplications = getFilteredApplications();
-  const uniqueJobs = [...new Set(applications.map(app => app.jobTitle))];
-  const hasApplications = applications.length > 0;
   const isFiltered = statusFilter || jobFilter;
+  const hasApplications = isFiltered ? (stats?.totalApplications ?? 0) > 0 : applications.length > 0;
 
   return (
     <>
@@ -162,11 +223,11 @@ const EmployerApplications = () => {
           <VStack spacing={8} align="stretch">
             {/* Header */}
             <EmployerApplicationsHeader 
-              applicationsCount={applications.length}
+              applicationsCount={stats?.totalApplications ?? applications.length}
             />
 
             {/* Stats */}
-            <EmployerApplicationsStats applications={applications} />
+            <EmployerApplicationsStats stats={stats} />
 
             {/* Filters */}
             <EmployerApplicationsFilters
@@ -174,9 +235,9 @@ const EmployerApplications = () => {
               setStatusFilter={setStatusFilter}
               jobFilter={jobFilter}
               setJobFilter={setJobFilter}
-              applications={applications}
-              filteredApplications={filteredApplications}
-              uniqueJobs={uniqueJobs}
+              loadedCount={applications.length}
+              hasMore={Boolean(nextCursor)}
+              jobs={jobs}
               onRefresh={fetchApplications}
             />
 
@@ -188,20 +249,28 @@ const EmployerApplications = () => {
                 onStatusUpdate={handleStatusUpdate}
                 loading={true}
               />
-            ) : filteredApplications.length === 0 ? (
+            ) : applications.length === 0 ? (
               <EmptyEmployerApplicationsState
                 hasApplications={hasApplications}
                 isFiltered={isFiltered}
               />
             ) : (
               <EmployerApplicationsList 
-                applications={filteredApplications}
+                applications={applications}
                 formatDate={formatDate}
                 onStatusUpdate={handleStatusUpdate}
                 onViewPDF={handleViewPDF}
                 loading={false}
               />
             )}
+
+            {!loading && nextCursor && (
+              <Flex justify="center">
+                <Button variant="outline" onClick={loadMore} isLoading={loadingMore}>
+                  Load more applications
+                </Button>
+              </Flex>
+            )}
           </VStack>
         </Container>
       </Box>
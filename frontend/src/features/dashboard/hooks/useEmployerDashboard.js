@@ -1,4 +1,5 @@
 import { useState, useEffect } from 'react';
+import { jobManagementAPI } from '../../../shared/api';
 
 export const useEmployerDashboard = () => {
   const [loading, setLoading] = useState(true);
@@ -57,19 +58,26 @@ export const useEmployerDashboard = () => {
   ]);
 
   useEffect(() => {
-    // Simulate API call
     const fetchDashboardData = async () => {
       try {
         setLoading(true);
-        // TODO: Replace with actual API calls
-        await new Promise(resolve => setTimeout(resolve, 1000));
-        
-        // Here you would make actual API calls:
-        // const statsResponse = await employerAPI.getStats();
-        // const jobsResponse = await employerAPI.getRecentJobs();
-        // setStats(statsResponse.data);
-        // setRecentJobs(jobsResponse.data);
-        
+        const dashboard = await jobManagementAPI.getDashboard();
+        const { stats: jobStats } = dashboard;
+        const total = jobStats.totalApplications || 1;
+
+        setStats(prev => ({
+          ...prev,
+          activeJobs: jobStats.activeJobs,
+          totalApplications: jobStats.totalApplications,
+          hiredCandidates: jobStats.acceptedApplications
+        }));
+        setRecentJobs(dashboard.recentJobs);
+        setPipelineData([
+          { label: 'New Applications', count: jobStats.pendingApplications, progress: Math.round(jobStats.pendingApplications * 100 / total), colorScheme: 'blue' },
+          { label: 'Under Review', count: jobStats.reviewedApplications, progress: Math.round(jobStats.reviewedApplications * 100 / total), colorScheme: 'purple' },
+          { label: 'Accepted', count: jobStats.acceptedApplications, progress: Math.round(jobStats.acceptedApplications * 100 / total), colorScheme: 'green' },
+          { label: 'Rejected', count: jobStats.rejectedApplications, progress: Math.round(jobStats.rejectedApplications * 100 / total), colorScheme: 'orange' }
+        ]);
       } catch (error) {
         console.error('Error fetching dashboard data:', error);
       } finally {
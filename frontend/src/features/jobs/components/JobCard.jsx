@@ -9,7 +9,7 @@ import '@fontsource/poppins/400.css';
 import '@fontsource/poppins/600.css';
 import '@fontsource/poppins/700.css';
 
-const JobCard = ({ job }) => {
+const JobCard = ({ job, saved }) => {
   const cardBg = useColorModeValue('white', 'gray.800');
   const borderColor = useColorModeValue('gray.200', 'gray.700');
   const textColor = useColorModeValue('gray.800', 'white');
@@ -82,6 +82,7 @@ const JobCard = ({ job }) => {
                 size="sm" 
                 variant="icon"
                 colorScheme="gray"
+                initialSaved={saved}
               />
             </Box>
           </Flex>
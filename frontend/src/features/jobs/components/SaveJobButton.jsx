@@ -11,18 +11,22 @@ const SaveJobButton = ({
   size = 'md', 
   variant = 'icon',
   colorScheme = 'red',
-  onSaveChange
+  onSaveChange,
+  initialSaved
 }) => {
-  const [isSaved, setIsSaved] = useState(false);
+  const [isSaved, setIsSaved] = useState(initialSaved ?? false);
   const [loading, setLoading] = useState(false);
   const { isAuthenticated } = useAuth();
   const toast = useToast();
 
   useEffect(() => {
-    if (isAuthenticated && jobId) {
+    // Lists pass initialSaved from one bulk lookup instead of a request per card
+    if (initialSaved !== undefined) {
+      setIsSaved(initialSaved);
+    } else if (isAuthenticated && jobId) {
       checkSavedStatus();
     }
-  }, [jobId, isAuthenticated]);
+  }, [jobId, isAuthenticated, initialSaved]);
 
   const checkSavedStatus = async () => {
     try {
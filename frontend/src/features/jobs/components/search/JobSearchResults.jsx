@@ -1,4 +1,4 @@
-import React from 'react';
+import React, { useEffect, useState } from 'react';
 import {
   VStack,
   HStack,
@@ -13,6 +13,8 @@ import {
 } from '@chakra-ui/react';
 import { HiRefresh } from 'react-icons/hi';
 import JobCard from '../JobCard';
+import { jobsAPI } from '../../../../shared/api';
+import { useAuth } from '../../../auth/context/AuthContext';
 
 const JobSearchResults = ({
   jobs,
@@ -26,6 +28,29 @@ const JobSearchResults = ({
 }) => {
   const bgColor = useColorModeValue('white', 'gray.800');
   const borderColor = useColorModeValue('gray.200', 'gray.700');
+  const { isAuthenticated } = useAuth();
+  const [jobFlags, setJobFlags] = useState(null);
+
+  // One bulk lookup for the saved state of every card in the list
+  useEffect(() => {
+    const ids = (jobs || []).map((job) => job.id).filter(Boolean);
+    if (!isAuthenticated || ids.length === 0) {
+      setJobFlags(null);
+      return;
+    }
+    // The endpoint accepts up to 100 ids per call
+    const chunks = [];
+    for (let i = 0; i < ids.length; i += 100) {
+      chunks.push(ids.slice(i, i + 100));
+    }
+    let cancelled = false;
+    Promise.all(chunks.map((chunk) => jobsAPI.getJobFlags(chunk))).then((results) => {
+      if (!cancelled) setJobFlags(Object.assign({}, ...results));
+    });
+    return () => {
+      cancelled = true;
+    };
+  }, [jobs, isAuthenticated]);
 
   if (!jobs) {
     return (
@@ -107,6 +132,7 @@ const JobSearchResults = ({
               >
                 <JobCard
                   job={job}
+                  saved={Boolean(jobFlags?.[job.id]?.saved)}
                   isCompact={isCompactView}
                   showPreview={false}
                 />
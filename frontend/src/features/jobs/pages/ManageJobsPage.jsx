@@ -17,7 +17,7 @@ import {
   HiSearch, HiCheck, HiX
 } from 'react-icons/hi';
 import { Link, useNavigate } from 'react-router-dom';
-import { jobManagementAPI } from '../../../shared/api';
+import { jobManagementAPI, jobsAPI } from '../../../shared/api';
 
 const EmployerManageJobs = () => {
   const [jobs, setJobs] = useState([]);
@@ -107,7 +107,21 @@ const EmployerManageJobs = () => {
   };
 
   // Edit Job Functions
-  const handleEditJob = (job) => {
+  const handleEditJob = async (job) => {
+    // List rows only carry a description snippet; load the full text for editing
+    try {
+      job = { ...job, ...(await jobsAPI.getJobById(job.id)) };
+    } catch (error) {
+      // Editing the list row would save the snippet as the description and clear requirements
+      toast({
+        title: 'Error loading job',
+        description: error.message,
+        status: 'error',
+        duration: 5000,
+        isClosable: true,
+      });
+      return;
+    }
     setEditingJob(job);
     setEditFormData({
       title: job.title || '',
@@ -121,6 +121,17 @@ export const jobsAPI = {
       throw new Error(error.response?.data?.message || 'Failed to fetch job');
     }
   },
+
+  // Applied/saved flags for a list of jobs, keyed by job id
+  getJobFlags: async (jobIds) => {
+    try {
+      const response = await api.get('/jobs/flags', { params: { ids: jobIds.join(',') } });
+      return Object.fromEntries(response.data.map((flags) => [flags.jobId, flags]));
+    } catch (error) {
+      console.error('Error fetching job flags:', error);
+      return {};
+    }
+  },
 };
 
 // Companies API calls
@@ -257,10 +268,12 @@ export const applicationsAPI = {
     }
   },
 
-  // Get applications for employer
-  getEmployerApplications: async () => {
+  // Get one page of the employer's applications, newest first ({ items, nextCursor, hasMore })
+  getEmployerInbox: async ({ cursor, size, jobId, status } = {}) => {
     try {
-      const response = await api.get('/applications/employer');
+      const response = await api.get('/applications/employer/inbox', {
+        params: { cursor, size, jobId, status }
+      });
       return response.data;
     } catch (error) {
       console.error('Error fetching applications:', error);
@@ -268,6 +281,17 @@ export const applicationsAPI = {
     }
   },
 
+  // Get one application, including the full cover letter text
+  getApplication: async (applicationId) => {
+    try {
+      const response = await api.get(`/applications/${applicationId}`);
+      return response.data;
+    } catch (error) {
+      console.error('Error fetching application:', error);
+      throw new Error(error.response?.data?.message || 'Failed to fetch application');
+    }
+  },
+
   // Update application status (Employer only)
   updateApplicationStatus: async (applicationId, status) => {
     try {
@@ -371,6 +395,17 @@ export const jobManagementAPI = {
       console.error('Error fetching recent employer jobs:', error);
       throw new Error(error.response?.data || 'Failed to fetch recent jobs');
     }
+  },
+
+  // Stats, recent jobs and recent applications in one request
+  getDashboard: async () => {
+    try {
+      const response = await api.get('/employer/dashboard');
+      return response.data;
+    } catch (error) {
+      console.error('Error fetching employer dashboard:', error);
+      throw new Error(error.response?.data || 'Failed to fetch dashboard');
+    }
   }
 
 };